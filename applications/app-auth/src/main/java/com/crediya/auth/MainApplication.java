@@ -3,9 +3,13 @@ package com.crediya.auth;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 @OpenAPIDefinition(info = @Info(
         title = "CrediYa - Authentication API",
         version = "1.0.0",
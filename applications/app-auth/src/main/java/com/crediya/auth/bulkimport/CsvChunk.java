@@ -0,0 +1,11 @@
+package com.crediya.auth.bulkimport;
+
+/**
+ * A line-aligned byte range of the CSV file: it always starts at the beginning of a line and ends right after a
+ * line terminator (or at the end of the file).
+ *
+ * @param start  The offset of the first byte of the chunk.
+ * @param length The number of bytes in the chunk.
+ */
+public record CsvChunk(long start, long length) {
+}
@@ -0,0 +1,30 @@
+package com.crediya.auth.bulkimport;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the CSV bulk import mode, bound from the 'crediya.import' prefix.
+ *
+ * @param file               The CSV file to import. The import mode is only enabled when this is set.
+ * @param rejectsFile        Where rejected rows are written. Defaults to the source file name plus '.rejects.csv'.
+ * @param chunkSize          Nominal size of each memory-mapped chunk.
+ * @param parallelism        Number of parsing rails. Zero means one per available core.
+ * @param batchSize          Rows per batched insert.
+ * @param maxInFlightBatches Maximum number of insert batches executing at the same time.
+ * @param progressInterval   How often progress is reported.
+ */
+@ConfigurationProperties(prefix = "crediya.import")
+public record CsvImportProperties(
+        String file,
+        String rejectsFile,
+        @DefaultValue("64MB") DataSize chunkSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("4") int maxInFlightBatches,
+        @DefaultValue("10s") Duration progressInterval
+) {
+}
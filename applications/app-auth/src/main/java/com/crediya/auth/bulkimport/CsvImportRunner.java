@@ -0,0 +1,53 @@
+package com.crediya.auth.bulkimport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the CSV bulk import when 'crediya.import.file' is set and shuts the application down afterwards.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * java -jar app-auth.jar --spring.main.web-application-type=none --crediya.import.file=/data/users.csv
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "crediya.import", name = "file")
+public class CsvImportRunner implements ApplicationRunner {
+
+    private final CsvUserImporter importer;
+    private final CsvImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path source = Path.of(properties.file());
+        Path rejectsFile = properties.rejectsFile() != null
+                ? Path.of(properties.rejectsFile())
+                : Path.of(properties.file() + ".rejects.csv");
+
+        int exitCode;
+        try {
+            ImportProgress result = importer.importFile(source, rejectsFile);
+            log.info("Import of {} finished: {} inserted, {} rejected (see {}).",
+                    source, result.rowsInserted(), result.rowsRejected(), rejectsFile);
+            exitCode = 0;
+        } catch (Exception ex) {
+            log.error("Import of {} failed: {}", source, ex.getMessage(), ex);
+            exitCode = 1;
+        }
+
+        int finalExitCode = exitCode;
+        System.exit(SpringApplication.exit(context, () -> finalExitCode));
+    }
+}
@@ -0,0 +1,10 @@
+package com.crediya.auth.bulkimport;
+
+/**
+ * A single line read from the CSV file.
+ *
+ * @param offset The byte offset of the line in the file, used to locate rejected rows.
+ * @param text   The line content without its terminator.
+ */
+public record CsvLine(long offset, String text) {
+}
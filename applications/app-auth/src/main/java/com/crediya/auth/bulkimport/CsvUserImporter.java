@@ -0,0 +1,124 @@
+package com.crediya.auth.bulkimport;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Imports users from a CSV file.
+ * <p>
+ * The file is split into line-aligned memory-mapped chunks that are parsed and validated in parallel, each rail
+ * reading one chunk at a time so only the chunks being read are mapped. Valid rows are
+ * merged into fixed-size batches written through {@link UserRepository#saveAll(List)} with a bounded number of
+ * batches in flight; backpressure from the writers throttles the parsers, so heap usage stays flat regardless of the
+ * file size. A batch that fails is retried row by row so that only the offending rows end up in the rejects file.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvUserImporter {
+
+    private final CsvUserParser parser;
+    private final UserRepository userRepository;
+    private final CsvImportProperties properties;
+
+    /**
+     * Imports the given file.
+     *
+     * @param source      The CSV file to import.
+     * @param rejectsFile Where rejected rows are written.
+     * @return The final counters of the import.
+     * @throws IOException If the source or rejects file cannot be accessed.
+     */
+    public ImportProgress importFile(Path source, Path rejectsFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            MappedCsvReader reader = new MappedCsvReader(channel);
+            CsvLine header = reader.header();
+            if (header == null) {
+                throw new IllegalArgumentException("The file " + source + " is empty.");
+            }
+            parser.validateHeader(header.text());
+
+            List<CsvChunk> chunks = reader.split(properties.chunkSize().toBytes());
+            int parallelism = properties.parallelism() > 0
+                    ? properties.parallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            log.info("Importing {} ({} bytes) in {} chunks over {} rails.", source, channel.size(), chunks.size(), parallelism);
+
+            ImportProgress progress = new ImportProgress(channel.size());
+            try (ImportRejects rejects = ImportRejects.open(rejectsFile, header.text())) {
+                Disposable reporter = Flux.interval(properties.progressInterval())
+                        .subscribe(tick -> progress.report());
+                try {
+                    Flux.fromIterable(chunks)
+                            .parallel(parallelism)
+                            .runOn(Schedulers.parallel())
+                            .flatMap(chunk -> reader.lines(chunk)
+                                            .doOnNext(progress::lineRead)
+                                            .<ParsedRow>handle((line, sink) -> parse(line, sink, rejects, progress)),
+                                    false, 1, Queues.SMALL_BUFFER_SIZE)
+                            .sequential()
+                            .buffer(properties.batchSize())
+                            .flatMap(batch -> insert(batch, rejects, progress), properties.maxInFlightBatches())
+                            .then()
+                            .block();
+                } finally {
+                    reporter.dispose();
+                }
+            }
+            progress.report();
+            return progress;
+        }
+    }
+
+    private void parse(CsvLine line, SynchronousSink<ParsedRow> sink, ImportRejects rejects, ImportProgress progress) {
+        try {
+            sink.next(new ParsedRow(line, parser.parse(line.text())));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            rejects.reject(line, ex.getMessage());
+            progress.rejected();
+        }
+    }
+
+    private Mono<Void> insert(List<ParsedRow> batch, ImportRejects rejects, ImportProgress progress) {
+        return userRepository.saveAll(batch.stream().map(ParsedRow::user).toList())
+                .doOnNext(progress::inserted)
+                .onErrorResume(ex -> {
+                    log.debug("Batch of {} rows failed ({}), retrying row by row.", batch.size(), ex.getMessage());
+                    return Flux.fromIterable(batch)
+                            .concatMap(row -> userRepository.saveAll(List.of(row.user()))
+                                    .doOnNext(progress::inserted)
+                                    .onErrorResume(rowError -> {
+                                        rejects.reject(row.line(), rejectionReason(rowError));
+                                        progress.rejected();
+                                        return Mono.empty();
+                                    }))
+                            .then(Mono.<Long>empty());
+                })
+                .then();
+    }
+
+    private String rejectionReason(Throwable error) {
+        return error instanceof DataIntegrityViolationException
+                ? "Email or identity number is already registered."
+                : error.getMessage();
+    }
+
+    private record ParsedRow(CsvLine line, User user) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.crediya.auth.bulkimport;
+
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns CSV lines into validated User domain objects.
+ * <p>
+ * Field-level rules are the ones enforced by the {@link User} constructor; on top of them the importer requires an
+ * identity number (mandatory in the database) and a role present in the {@link RoleCatalog}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CsvUserParser {
+
+    static final List<String> COLUMNS = List.of(
+            "firstName", "lastName", "email", "identityNumber", "phoneNumber",
+            "birthDate", "address", "idRole", "baseSalary"
+    );
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final RoleCatalog roleCatalog;
+
+    /**
+     * Checks that the header line declares the expected columns in the expected order.
+     *
+     * @param header The header line of the file.
+     * @throws IllegalArgumentException If the header does not match {@link #COLUMNS}.
+     */
+    public void validateHeader(String header) {
+        List<String> columns = split(header).stream()
+                .map(column -> column == null ? "" : column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        List<String> expected = COLUMNS.stream().map(column -> column.toLowerCase(Locale.ROOT)).toList();
+        if (!columns.equals(expected)) {
+            throw new IllegalArgumentException("Unexpected CSV header. Expected columns: " + String.join(",", COLUMNS));
+        }
+    }
+
+    /**
+     * Parses and validates a single data line.
+     *
+     * @param line The raw CSV line.
+     * @return The validated domain user.
+     * @throws IllegalArgumentException If the line is malformed or violates a business rule.
+     */
+    public User parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != COLUMNS.size()) {
+            throw new IllegalArgumentException("Expected " + COLUMNS.size() + " columns but found " + fields.size() + ".");
+        }
+
+        String identityNumber = fields.get(3);
+        if (identityNumber == null) {
+            throw new IllegalArgumentException("Identity number cannot be null or empty.");
+        }
+        String idRole = fields.get(7);
+        if (!roleCatalog.contains(idRole)) {
+            throw new IllegalArgumentException("Role " + idRole + " does not exist.");
+        }
+
+        return User.newUser(
+                fields.get(0),
+                fields.get(1),
+                fields.get(2),
+                identityNumber,
+                fields.get(4),
+                parseDate(fields.get(5)),
+                fields.get(6),
+                idRole,
+                parseSalary(fields.get(8))
+        );
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException("Birth date must use the yyyy-MM-dd format.");
+        }
+    }
+
+    private BigDecimal parseSalary(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Base salary is not a valid number.");
+        }
+    }
+
+    /**
+     * Splits a line on commas, honouring double-quoted fields and doubled quotes inside them.
+     * Blank fields are returned as null.
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char current = line.charAt(i);
+            if (quoted) {
+                if (current == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (current == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(current);
+                }
+            } else if (current == QUOTE) {
+                quoted = true;
+            } else if (current == SEPARATOR) {
+                fields.add(toField(field));
+                field.setLength(0);
+            } else {
+                field.append(current);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(toField(field));
+        return fields;
+    }
+
+    private static String toField(StringBuilder field) {
+        String value = field.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+}
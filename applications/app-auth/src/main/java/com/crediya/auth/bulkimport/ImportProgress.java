@@ -0,0 +1,59 @@
+package com.crediya.auth.bulkimport;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks import counters and reports progress and throughput.
+ */
+@Slf4j
+public class ImportProgress {
+
+    private final long totalBytes;
+    private final long startedAt = System.nanoTime();
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsInserted = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+
+    public ImportProgress(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public void lineRead(CsvLine line) {
+        rowsRead.increment();
+        bytesRead.add(line.text().length() + 1L);
+    }
+
+    public void inserted(long rows) {
+        rowsInserted.add(rows);
+    }
+
+    public void rejected() {
+        rowsRejected.increment();
+    }
+
+    public long rowsRead() {
+        return rowsRead.sum();
+    }
+
+    public long rowsInserted() {
+        return rowsInserted.sum();
+    }
+
+    public long rowsRejected() {
+        return rowsRejected.sum();
+    }
+
+    /**
+     * Logs the current counters. The byte-based percentage is approximate because it counts characters.
+     */
+    public void report() {
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000d, 0.001d);
+        long read = rowsRead();
+        log.info("Import progress: ~{}% read, {} rows read, {} inserted, {} rejected, {} rows/s.",
+                totalBytes == 0 ? 100 : Math.min(100, bytesRead.sum() * 100 / totalBytes),
+                read, rowsInserted(), rowsRejected(), Math.round(read / elapsedSeconds));
+    }
+}
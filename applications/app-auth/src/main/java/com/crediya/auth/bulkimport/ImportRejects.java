@@ -0,0 +1,61 @@
+package com.crediya.auth.bulkimport;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends rejected rows to a CSV file together with their byte offset in the source file and the rejection reason.
+ * Writes are synchronized because rows are rejected concurrently from every parsing rail.
+ */
+public class ImportRejects implements Closeable {
+
+    private final BufferedWriter writer;
+
+    private ImportRejects(BufferedWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Creates (or truncates) the rejects file and writes its header.
+     *
+     * @param path         The rejects file.
+     * @param sourceHeader The header line of the source file, appended after the rejects columns.
+     * @return A writer for rejected rows.
+     * @throws IOException If the file cannot be created.
+     */
+    public static ImportRejects open(Path path, String sourceHeader) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write("byteOffset,reason," + sourceHeader);
+        writer.newLine();
+        return new ImportRejects(writer);
+    }
+
+    /**
+     * Records a rejected row.
+     *
+     * @param line   The rejected line.
+     * @param reason Why the line was rejected.
+     */
+    public synchronized void reject(CsvLine line, String reason) {
+        try {
+            writer.write(Long.toString(line.offset()));
+            writer.write(",\"");
+            writer.write(reason == null ? "" : reason.replace("\"", "\"\""));
+            writer.write("\",");
+            writer.write(line.text());
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
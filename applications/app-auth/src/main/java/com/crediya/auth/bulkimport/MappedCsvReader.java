@@ -0,0 +1,153 @@
+package com.crediya.auth.bulkimport;
+
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a CSV file through memory-mapped, line-aligned chunks.
+ * <p>
+ * Chunks are mapped lazily, one at a time per consumer, so the file content lives in the page cache rather than on
+ * the heap. Rows must not contain embedded line breaks, which is what makes line-aligned splitting safe.
+ */
+public class MappedCsvReader {
+
+    /**
+     * A single mapping cannot exceed {@link Integer#MAX_VALUE} bytes; this leaves room for the line that straddles
+     * the nominal chunk boundary.
+     */
+    static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final FileChannel channel;
+
+    public MappedCsvReader(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Reads the header line of the file.
+     *
+     * @return The header line without its terminator.
+     * @throws IOException If the file cannot be read.
+     */
+    public CsvLine header() throws IOException {
+        long end = endOfLine(0, channel.size());
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        return new LineCursor(buffer, 0).next();
+    }
+
+    /**
+     * Splits the data section of the file (everything after the header) into line-aligned chunks of roughly the
+     * given size.
+     *
+     * @param chunkSize The nominal size of each chunk, in bytes.
+     * @return The chunks covering the whole data section, in file order.
+     * @throws IOException If the file cannot be read.
+     */
+    public List<CsvChunk> split(long chunkSize) throws IOException {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE + " bytes.");
+        }
+        long size = channel.size();
+        long start = endOfLine(0, size);
+        List<CsvChunk> chunks = new ArrayList<>();
+        while (start < size) {
+            long end = size - start <= chunkSize ? size : endOfLine(start + chunkSize, size);
+            chunks.add(new CsvChunk(start, end - start));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Streams the non-empty lines of a chunk. The chunk is mapped when the stream is subscribed to.
+     *
+     * @param chunk The chunk to read.
+     * @return A reactive stream emitting each line of the chunk in order.
+     */
+    public Flux<CsvLine> lines(CsvChunk chunk) {
+        return Flux.generate(
+                () -> new LineCursor(channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length()), chunk.start()),
+                (cursor, sink) -> {
+                    CsvLine line = cursor.next();
+                    if (line == null) {
+                        sink.complete();
+                    } else {
+                        sink.next(line);
+                    }
+                    return cursor;
+                });
+    }
+
+    /**
+     * @return The position right after the first line feed at or after {@code from}, or {@code size} if there is none.
+     */
+    private long endOfLine(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Walks a mapped chunk line by line, decoding each line through a reusable scratch array.
+     */
+    private static final class LineCursor {
+
+        private final ByteBuffer buffer;
+        private final long baseOffset;
+        private byte[] scratch = new byte[512];
+
+        private LineCursor(ByteBuffer buffer, long baseOffset) {
+            this.buffer = buffer;
+            this.baseOffset = baseOffset;
+        }
+
+        private CsvLine next() {
+            while (buffer.hasRemaining()) {
+                int lineStart = buffer.position();
+                int length = 0;
+                while (buffer.hasRemaining()) {
+                    byte current = buffer.get();
+                    if (current == LINE_FEED) {
+                        break;
+                    }
+                    if (length == scratch.length) {
+                        scratch = Arrays.copyOf(scratch, scratch.length * 2);
+                    }
+                    scratch[length++] = current;
+                }
+                if (length > 0 && scratch[length - 1] == CARRIAGE_RETURN) {
+                    length--;
+                }
+                if (length > 0) {
+                    return new CsvLine(baseOffset + lineStart, new String(scratch, 0, length, StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.crediya.auth.snapshot;
+
+import com.crediya.auth.application.index.UserIndexSnapshot;
+import com.crediya.auth.application.index.UserIndexSnapshotStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Stores user index snapshots in a single binary file.
+ * <p>
+ * Layout, big-endian: magic {@code "CYIX"}, format version, creation time (epoch millis), high-water mark, user
+ * count, version sum, number of sections, then for each section its UTF-8 name and its length-prefixed bytes, and finally a CRC-32 of everything
+ * before it. The file is written to a temporary sibling and atomically moved into place, so a crash never leaves a
+ * torn snapshot. It is read through a memory mapping: the sections handed to the indexes are views over the mapped
+ * file, not heap copies.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crediya.users.index.snapshot", name = "file")
+public class FileUserIndexSnapshotStore implements UserIndexSnapshotStore {
+
+    static final int MAGIC = 0x43594958;
+    static final int FORMAT_VERSION = 3;
+
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+
+    private final Path file;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public FileUserIndexSnapshotStore(UserIndexSnapshotProperties properties) {
+        this(Path.of(properties.file()), properties.maxAge(), Clock.systemUTC());
+    }
+
+    FileUserIndexSnapshotStore(Path file, Duration maxAge, Clock clock) {
+        this.file = file;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<UserIndexSnapshot> load() {
+        if (!Files.isRegularFile(file)) {
+            log.info("No user index snapshot found at {}.", file);
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            log.warn("Ignoring unreadable user index snapshot {}: {}", file, ex.toString());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(UserIndexSnapshot snapshot) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)), new CRC32());
+            try (DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.createdAt().toEpochMilli());
+                out.writeLong(snapshot.highWaterMark());
+                out.writeLong(snapshot.userCount());
+                out.writeLong(snapshot.versionSum());
+                out.writeInt(snapshot.sections().size());
+                for (Map.Entry<String, ByteBuffer> section : snapshot.sections().entrySet()) {
+                    byte[] name = section.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(name.length);
+                    out.write(name);
+                    ByteBuffer content = section.getValue().duplicate();
+                    out.writeInt(content.remaining());
+                    while (content.hasRemaining()) {
+                        out.write(content.get());
+                    }
+                }
+                out.writeLong(checked.getChecksum().getValue());
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write user index snapshot " + file, ex);
+        }
+    }
+
+    private Optional<UserIndexSnapshot> decode(ByteBuffer buffer) {
+        if (buffer.limit() < CHECKSUM_SIZE || !checksumMatches(buffer)) {
+            log.warn("Ignoring user index snapshot {} with a bad checksum.", file);
+            return Optional.empty();
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            log.warn("Ignoring user index snapshot {} with an unknown format.", file);
+            return Optional.empty();
+        }
+        Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+        if (createdAt.plus(maxAge).isBefore(clock.instant())) {
+            log.warn("Ignoring user index snapshot {} taken at {}, older than {}.", file, createdAt, maxAge);
+            return Optional.empty();
+        }
+        long highWaterMark = buffer.getLong();
+        long userCount = buffer.getLong();
+        long versionSum = buffer.getLong();
+
+        int sectionCount = buffer.getInt();
+        Map<String, ByteBuffer> sections = new HashMap<>();
+        for (int i = 0; i < sectionCount; i++) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            int length = buffer.getInt();
+            sections.put(new String(name, StandardCharsets.UTF_8), buffer.slice(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+        return Optional.of(new UserIndexSnapshot(highWaterMark, userCount, versionSum, createdAt, sections));
+    }
+
+    private boolean checksumMatches(ByteBuffer buffer) {
+        int contentLength = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, contentLength));
+        return crc.getValue() == buffer.getLong(contentLength);
+    }
+}
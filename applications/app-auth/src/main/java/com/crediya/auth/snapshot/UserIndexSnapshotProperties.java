@@ -0,0 +1,19 @@
+package com.crediya.auth.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the user index snapshots, bound from the 'crediya.users.index.snapshot' prefix.
+ *
+ * @param file   The snapshot file. Snapshots are only enabled when this is set.
+ * @param maxAge Snapshots older than this are ignored and the indexes are loaded from the database instead.
+ */
+@ConfigurationProperties(prefix = "crediya.users.index.snapshot")
+public record UserIndexSnapshotProperties(
+        String file,
+        @DefaultValue("24h") Duration maxAge
+) {
+}
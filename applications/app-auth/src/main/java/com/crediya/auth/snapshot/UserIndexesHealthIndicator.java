@@ -0,0 +1,32 @@
+package com.crediya.auth.snapshot;
+
+import com.crediya.auth.application.index.UserIndexes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the in-memory user indexes as down until they are loaded, and how they were loaded afterwards.
+ * It is part of the readiness group, so instances take traffic only once searches and statistics are complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIndexesHealthIndicator implements HealthIndicator {
+
+    private final UserIndexes userIndexes;
+
+    @Override
+    public Health health() {
+        return userIndexes.loadReport()
+                .map(report -> Health.up()
+                        .withDetail("fromSnapshot", report.fromSnapshot())
+                        .withDetail("restoredUpTo", report.restoredUpTo())
+                        .withDetail("loadedFromDatabase", report.loadedFromDatabase())
+                        .withDetail("durationMs", report.duration().toMillis())
+                        .withDetail("highWaterMark", userIndexes.highWaterMark())
+                        .withDetail("userCount", userIndexes.userCount())
+                        .build())
+                .orElseGet(() -> Health.down().withDetail("reason", "loading").build());
+    }
+}
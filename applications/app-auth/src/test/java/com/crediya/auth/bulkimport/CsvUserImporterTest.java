@@ -0,0 +1,89 @@
+package com.crediya.auth.bulkimport;
+
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * End-to-end tests for the CsvUserImporter, from the CSV file to the repository and the rejects file.
+ */
+@ExtendWith(MockitoExtension.class)
+class CsvUserImporterTest {
+
+    private static final String TAKEN_EMAIL = "taken@outlook.com";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private RoleCatalog roleCatalog;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void shouldRejectBadRowsAndRetryFailedBatchRowByRow() throws IOException {
+
+        Path source = tempDir.resolve("usuarios.csv");
+        Files.writeString(source, String.join("\n",
+                "firstName,lastName,email,identityNumber,phoneNumber,birthDate,address,idRole,baseSalary",
+                "Larry,Ramirez,larry.ramirez11@outlook.com,123456789,3001234567,1995-11-11,456 Oak Ave,APPLICANT,5000000",
+                "Ana,Lopez,ana.lopez@outlook.com,987654321,3001234567,11/03/1992,789 Pine St,APPLICANT,7000000",
+                "Juan,Perez,juan.perez@outlook.com,555555555,3001234567,1990-05-15,123 Main St,APPLICANT,3000000",
+                "Pedro,Gomez," + TAKEN_EMAIL + ",444444444,3001234567,1988-01-20,12 Elm St,APPLICANT,4000000",
+                ""), StandardCharsets.UTF_8);
+        Path rejectsFile = tempDir.resolve("usuarios.csv.rejects.csv");
+
+        when(roleCatalog.contains("APPLICANT")).thenReturn(true);
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().anyMatch(user -> TAKEN_EMAIL.equals(user.getEmail()))
+                    ? Mono.error(new DataIntegrityViolationException("Unique index violated"))
+                    : Mono.just((long) users.size());
+        });
+
+        CsvImportProperties properties = new CsvImportProperties(source.toString(), rejectsFile.toString(),
+                DataSize.ofBytes(128), 2, 10, 1, Duration.ofMinutes(1));
+        ImportProgress progress = new CsvUserImporter(new CsvUserParser(roleCatalog), userRepository, properties)
+                .importFile(source, rejectsFile);
+
+        assertEquals(4, progress.rowsRead());
+        assertEquals(2, progress.rowsInserted());
+        assertEquals(2, progress.rowsRejected());
+
+        List<String> rejected = Files.readAllLines(rejectsFile, StandardCharsets.UTF_8);
+        assertEquals(3, rejected.size());
+        assertTrue(rejected.get(0).startsWith("byteOffset,reason,firstName"));
+        assertTrue(rejected.stream().anyMatch(line ->
+                line.contains("Birth date must use the yyyy-MM-dd format.") && line.contains("ana.lopez@outlook.com")));
+        assertTrue(rejected.stream().anyMatch(line ->
+                line.contains("Email or identity number is already registered.") && line.contains(TAKEN_EMAIL)));
+
+        verify(userRepository).saveAll(argThat(users -> users.size() == 1
+                && users.get(0).getEmail().equals("larry.ramirez11@outlook.com")));
+        verify(userRepository).saveAll(argThat(users -> users.size() == 1
+                && users.get(0).getEmail().equals("juan.perez@outlook.com")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.crediya.auth.bulkimport;
+
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.domain.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the CsvUserParser.
+ */
+@ExtendWith(MockitoExtension.class)
+class CsvUserParserTest {
+
+    @Mock
+    private RoleCatalog roleCatalog;
+
+    @InjectMocks
+    private CsvUserParser parser;
+
+    @Test
+    void shouldParseQuotedFieldsIntoDomainUser() {
+
+        when(roleCatalog.contains("APPLICANT")).thenReturn(true);
+
+        User user = parser.parse("Larry,Ramirez,larry.ramirez11@outlook.com,123456789,,1995-11-11,\"Calle 123 #45-67, \"\"Apto 2\"\"\",APPLICANT,5000000");
+
+        assertEquals("larry.ramirez11@outlook.com", user.getEmail());
+        assertEquals("Calle 123 #45-67, \"Apto 2\"", user.getAddress());
+        assertEquals(LocalDate.of(1995, 11, 11), user.getBirthDate());
+        assertEquals(new BigDecimal("5000000"), user.getBaseSalary());
+        assertNull(user.getPhoneNumber());
+    }
+
+    @Test
+    void shouldRejectRowsThatBreakDomainRules() {
+
+        when(roleCatalog.contains("APPLICANT")).thenReturn(true);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+                parser.parse("Larry,Ramirez,not-an-email,123456789,3001234567,1995-11-11,456 Oak Ave,APPLICANT,5000000"));
+
+        assertEquals("The email format is not valid.", ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectUnknownRolesAndMalformedRows() {
+
+        when(roleCatalog.contains("UNKNOWN")).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.parse("Larry,Ramirez,larry@outlook.com,123456789,3001234567,1995-11-11,456 Oak Ave,UNKNOWN,5000000"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("Larry,Ramirez"));
+    }
+
+    @Test
+    void shouldValidateHeaderIgnoringCaseAndWhitespace() {
+
+        parser.validateHeader(" FirstName ,lastname,email,identityNumber,phoneNumber,birthDate,address,idRole,baseSalary");
+
+        assertThrows(IllegalArgumentException.class, () -> parser.validateHeader("email,firstName"));
+    }
+}
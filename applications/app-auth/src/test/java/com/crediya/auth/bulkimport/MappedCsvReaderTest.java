@@ -0,0 +1,76 @@
+package com.crediya.auth.bulkimport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the MappedCsvReader.
+ */
+class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadEveryLineExactlyOnceAcrossLineAlignedChunks() throws IOException {
+
+        List<String> rows = IntStream.range(0, 1_000)
+                .mapToObj(i -> "Larry" + i + ",Ramirez,larry" + i + "@outlook.com")
+                .toList();
+        Path file = write("firstName,lastName,email\r\n" + String.join("\r\n", rows) + "\r\n");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedCsvReader reader = new MappedCsvReader(channel);
+            List<CsvChunk> chunks = reader.split(100);
+
+            assertTrue(chunks.size() > 100);
+            assertEquals("firstName,lastName,email", reader.header().text());
+
+            List<String> lines = Flux.fromIterable(chunks)
+                    .concatMap(reader::lines)
+                    .map(CsvLine::text)
+                    .collectList()
+                    .block();
+
+            assertEquals(rows, lines);
+        }
+    }
+
+    @Test
+    void shouldReportTheByteOffsetOfEachLine() throws IOException {
+
+        Path file = write("header\nfirst\n\nsecond");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedCsvReader reader = new MappedCsvReader(channel);
+
+            String offsets = Flux.fromIterable(reader.split(1024))
+                    .concatMap(reader::lines)
+                    .map(line -> line.offset() + ":" + line.text())
+                    .collect(Collectors.joining(","))
+                    .block();
+
+            assertEquals("7:first,14:second", offsets);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("users.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
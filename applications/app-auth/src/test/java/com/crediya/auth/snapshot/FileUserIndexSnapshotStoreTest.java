@@ -0,0 +1,105 @@
+package com.crediya.auth.snapshot;
+
+import com.crediya.auth.application.index.UserIndexSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the FileUserIndexSnapshotStore.
+ */
+class FileUserIndexSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreTheSavedSnapshot() {
+
+        Path file = tempDir.resolve("indexes/users.snapshot");
+        FileUserIndexSnapshotStore store = storeAt(file, NOW);
+
+        store.save(new UserIndexSnapshot(42L, 40L, 55L, NOW.minusSeconds(60), Map.of(
+                "search", bytes("search-section"),
+                "aggregates", bytes("aggregates-section"))));
+        Optional<UserIndexSnapshot> loaded = store.load();
+
+        assertTrue(loaded.isPresent());
+        assertEquals(42L, loaded.get().highWaterMark());
+        assertEquals(40L, loaded.get().userCount());
+        assertEquals(55L, loaded.get().versionSum());
+        assertEquals(NOW.minusSeconds(60), loaded.get().createdAt());
+        assertEquals("search-section", text(loaded.get().sections().get("search")));
+        assertEquals("aggregates-section", text(loaded.get().sections().get("aggregates")));
+        assertFalse(Files.exists(file.resolveSibling("users.snapshot.tmp")));
+    }
+
+    @Test
+    void shouldIgnoreMissingSnapshot() {
+
+        assertTrue(storeAt(tempDir.resolve("missing.snapshot"), NOW).load().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreCorruptedSnapshot() throws IOException {
+
+        Path file = tempDir.resolve("users.snapshot");
+        FileUserIndexSnapshotStore store = storeAt(file, NOW);
+        store.save(new UserIndexSnapshot(7L, 7L, 0L, NOW, Map.of("search", bytes("search-section"))));
+
+        byte[] content = Files.readAllBytes(file);
+        content[content.length / 2] ^= 0x01;
+        Files.write(file, content);
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreTruncatedSnapshot() throws IOException {
+
+        Path file = tempDir.resolve("users.snapshot");
+        Files.write(file, new byte[]{0x43, 0x59});
+
+        assertTrue(storeAt(file, NOW).load().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreSnapshotOlderThanMaxAge() {
+
+        Path file = tempDir.resolve("users.snapshot");
+        storeAt(file, NOW).save(new UserIndexSnapshot(7L, 7L, 0L, NOW.minus(Duration.ofHours(2)), Map.of()));
+
+        assertTrue(storeAt(file, NOW).load().isEmpty());
+    }
+
+    private FileUserIndexSnapshotStore storeAt(Path file, Instant now) {
+        return new FileUserIndexSnapshotStore(file, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom exception thrown when a request runs out of its time budget, carrying the stage that exhausted it.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+
+    public DeadlineExceededException(String stage) {
+        super("Request deadline exceeded during stage '" + stage + "'.");
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
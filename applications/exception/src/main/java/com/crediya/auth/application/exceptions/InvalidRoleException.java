@@ -0,0 +1,10 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when a user references a role that is not part of the role catalog.
+ */
+public class InvalidRoleException extends RuntimeException {
+    public InvalidRoleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when a user search has a query that is too short or a limit out of range.
+ */
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
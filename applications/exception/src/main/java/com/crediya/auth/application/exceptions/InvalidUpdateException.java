@@ -0,0 +1,10 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when a partial user update supplies no field or an invalid value.
+ */
+public class InvalidUpdateException extends RuntimeException {
+    public InvalidUpdateException(String message) {
+        super(message);
+    }
+}
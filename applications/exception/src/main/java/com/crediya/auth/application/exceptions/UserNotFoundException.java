@@ -0,0 +1,10 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when an operation references a user that does not exist.
+ */
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
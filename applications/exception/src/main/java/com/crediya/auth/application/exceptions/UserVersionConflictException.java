@@ -0,0 +1,11 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when a user update is based on a version that is no longer the current one,
+ * meaning another update was applied in between.
+ */
+public class UserVersionConflictException extends RuntimeException {
+    public UserVersionConflictException(String message) {
+        super(message);
+    }
+}
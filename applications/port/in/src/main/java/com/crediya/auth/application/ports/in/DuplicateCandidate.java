@@ -0,0 +1,10 @@
+package com.crediya.auth.application.ports.in;
+
+/**
+ * An email and/or identity document a partner intends to register. Either field may be null.
+ */
+public record DuplicateCandidate(
+        String email,
+        String identityNumber
+) {
+}
@@ -0,0 +1,18 @@
+package com.crediya.auth.application.ports.in;
+
+/**
+ * A submitted value that already belongs to a registered user.
+ *
+ * @param field Which kind of value matched.
+ * @param value The value as it was submitted.
+ */
+public record DuplicateMatch(
+        Field field,
+        String value
+) {
+
+    public enum Field {
+        EMAIL,
+        IDENTITY_NUMBER
+    }
+}
@@ -0,0 +1,19 @@
+package com.crediya.auth.application.ports.in;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the contract for the use case of checking, before a batch onboarding, which emails and identity documents
+ * are already registered.
+ */
+public interface FindDuplicatesPort {
+
+    /**
+     * Checks a stream of candidates against the registered users. The candidates are consumed as they arrive, so
+     * the input does not need to fit in memory.
+     *
+     * @param candidates The emails and identity documents to check.
+     * @return A reactive stream of only the submitted values that are already registered, in no particular order.
+     */
+    Flux<DuplicateMatch> findDuplicates(Flux<DuplicateCandidate> candidates);
+}
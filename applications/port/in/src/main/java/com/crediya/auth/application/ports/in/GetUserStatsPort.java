@@ -0,0 +1,16 @@
+package com.crediya.auth.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the contract for the use case of reading the user distribution statistics.
+ */
+public interface GetUserStatsPort {
+
+    /**
+     * Reads the current user counts, salary percentiles and age buckets, overall and per role.
+     *
+     * @return A reactive stream emitting the current statistics.
+     */
+    Mono<UserStats> getUserStats();
+}
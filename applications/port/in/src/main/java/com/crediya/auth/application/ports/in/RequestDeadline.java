@@ -0,0 +1,44 @@
+package com.crediya.auth.application.ports.in;
+
+import java.time.Duration;
+
+/**
+ * The point in time by which a request must be answered.
+ * <p>
+ * Inbound adapters place it in the Reactor {@link reactor.util.context.Context} under {@link #CONTEXT_KEY}; use cases
+ * read it to give each stage of their pipeline only the budget that is left.
+ */
+public final class RequestDeadline {
+
+    public static final Class<RequestDeadline> CONTEXT_KEY = RequestDeadline.class;
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline that expires after the given budget, measured from now.
+     *
+     * @param budget The total time allowed for the request.
+     * @return A new RequestDeadline.
+     */
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * @return The time left until the deadline; zero or negative once it has passed.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @return true if the deadline has already passed.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
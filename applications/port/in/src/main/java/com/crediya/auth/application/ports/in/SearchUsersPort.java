@@ -0,0 +1,20 @@
+package com.crediya.auth.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Defines the contract for the use case of searching users by partial name or identity document.
+ */
+public interface SearchUsersPort {
+
+    /**
+     * Finds the users whose first name, last name or identity document start with every term of the query.
+     *
+     * @param query The search terms, separated by whitespace.
+     * @param limit The maximum number of results to return.
+     * @return A reactive stream emitting at most {@code limit} matching users.
+     */
+    Mono<List<UserSearchResult>> searchUsers(String query, int limit);
+}
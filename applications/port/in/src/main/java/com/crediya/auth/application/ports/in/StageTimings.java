@@ -0,0 +1,66 @@
+package com.crediya.auth.application.ports.in;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects how long each stage of a request took.
+ * <p>
+ * Inbound adapters place an instance in the Reactor {@link reactor.util.context.Context} under {@link #CONTEXT_KEY}
+ * only when timing is enabled; use cases record their stages into it when present and skip timing otherwise.
+ */
+public final class StageTimings {
+
+    public static final Class<StageTimings> CONTEXT_KEY = StageTimings.class;
+
+    private final long startNanos = System.nanoTime();
+    private final List<Stage> stages = new ArrayList<>(6);
+    private volatile long handlerCompletedNanos;
+
+    /**
+     * Records the duration of a stage.
+     *
+     * @param name          The stage name, as exposed in the Server-Timing header.
+     * @param durationNanos How long the stage took.
+     */
+    public synchronized void record(String name, long durationNanos) {
+        stages.add(new Stage(name, durationNanos));
+    }
+
+    /**
+     * Marks the moment the handler produced its result, so the time spent writing the response can be measured.
+     */
+    public void markHandlerCompleted() {
+        handlerCompletedNanos = System.nanoTime();
+    }
+
+    /**
+     * @return The moment the handler produced its result, or zero if it has not been marked.
+     */
+    public long handlerCompletedNanos() {
+        return handlerCompletedNanos;
+    }
+
+    /**
+     * @return The time elapsed since the request started.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return The stages recorded so far, in recording order.
+     */
+    public synchronized List<Stage> stages() {
+        return List.copyOf(stages);
+    }
+
+    /**
+     * A single timed stage.
+     *
+     * @param name          The stage name.
+     * @param durationNanos How long the stage took.
+     */
+    public record Stage(String name, long durationNanos) {
+    }
+}
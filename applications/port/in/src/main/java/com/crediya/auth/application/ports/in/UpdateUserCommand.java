@@ -0,0 +1,31 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.UserPatch;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Represents a command to partially update an existing user. Null fields are left unchanged.
+ */
+public record UpdateUserCommand(
+        Long id,
+        Long expectedVersion,
+        String phoneNumber,
+        String address,
+        BigDecimal baseSalary
+) {
+    public UpdateUserCommand {
+        Objects.requireNonNull(id, "User ID must not be null");
+        Objects.requireNonNull(expectedVersion, "Expected version must not be null");
+    }
+
+    /**
+     * A factory method to convert the supplied fields of this command into a domain UserPatch.
+     *
+     * @return A new, validated UserPatch.
+     */
+    public UserPatch toDomainPatch() {
+        return new UserPatch(this.phoneNumber, this.address, this.baseSalary);
+    }
+}
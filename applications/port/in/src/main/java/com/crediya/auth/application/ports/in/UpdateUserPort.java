@@ -0,0 +1,17 @@
+package com.crediya.auth.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the contract for the use case of partially updating an existing user.
+ */
+public interface UpdateUserPort {
+
+    /**
+     * Applies the supplied fields to the user, provided it is still at the expected version.
+     *
+     * @param command The command object containing the user ID, the expected version and the fields to change.
+     * @return A reactive stream emitting the new version of the user.
+     */
+    Mono<Long> updateUser(UpdateUserCommand command);
+}
@@ -0,0 +1,13 @@
+package com.crediya.auth.application.ports.in;
+
+/**
+ * A user matching a search, carrying only the fields support agents need to identify them.
+ */
+public record UserSearchResult(
+        Long id,
+        String firstName,
+        String lastName,
+        String identityNumber,
+        String idRole
+) {
+}
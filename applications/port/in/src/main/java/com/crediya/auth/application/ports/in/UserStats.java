@@ -0,0 +1,27 @@
+package com.crediya.auth.application.ports.in;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Distribution statistics over the registered users, overall and per role.
+ *
+ * @param all    The statistics over every user.
+ * @param byRole The statistics of the users of each role, keyed by role identifier.
+ */
+public record UserStats(GroupStats all, Map<String, GroupStats> byRole) {
+
+    /**
+     * @param count      The number of users in the group.
+     * @param salary     Estimated salary percentiles, within 1% relative error.
+     * @param ageBuckets The number of users per age range, keyed by labels such as {@code "26-35"}.
+     */
+    public record GroupStats(long count, SalaryPercentiles salary, Map<String, Long> ageBuckets) {
+    }
+
+    /**
+     * Salary percentiles; every value is null for an empty group.
+     */
+    public record SalaryPercentiles(BigDecimal p50, BigDecimal p90, BigDecimal p99) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.crediya.auth.application.catalog;
+
+import com.crediya.auth.domain.model.Role;
+import com.crediya.auth.domain.ports.out.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the complete role catalog in memory so that role checks never hit the database.
+ * <p>
+ * The catalog is loaded before the web server starts accepting requests and is refreshed periodically afterwards.
+ * Every refresh replaces the whole immutable map at once, so readers never observe a partially loaded catalog.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleCatalog implements SmartLifecycle {
+
+    /**
+     * Runs before the web server lifecycle so no request is served with an empty catalog.
+     */
+    private static final int PHASE = 0;
+    private static final Duration INITIAL_LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesById = Map.of();
+    private volatile boolean running;
+
+    /**
+     * Checks whether the given role identifier exists in the catalog.
+     *
+     * @param idRole The role identifier to check.
+     * @return true if the role exists, false otherwise (including when {@code idRole} is null).
+     */
+    public boolean contains(String idRole) {
+        return idRole != null && rolesById.containsKey(idRole);
+    }
+
+    /**
+     * Looks up a role by its identifier.
+     *
+     * @param idRole The role identifier.
+     * @return The role, or an empty Optional if it is not part of the catalog.
+     */
+    public Optional<Role> findById(String idRole) {
+        return idRole == null ? Optional.empty() : Optional.ofNullable(rolesById.get(idRole));
+    }
+
+    /**
+     * Returns the current snapshot of the catalog.
+     *
+     * @return An immutable map of roles indexed by their identifier.
+     */
+    public Map<String, Role> roles() {
+        return rolesById;
+    }
+
+    /**
+     * Reloads the catalog from the database and atomically swaps it in.
+     * Callers that modify the 'rol' table should invoke this method so the change is visible immediately.
+     *
+     * @return A reactive stream that completes once the new catalog is in place.
+     */
+    public Mono<Void> refresh() {
+        return roleRepository.findAll()
+                .collectMap(Role::getId)
+                .doOnNext(loaded -> {
+                    rolesById = Map.copyOf(loaded);
+                    log.info("Role catalog loaded with {} roles.", loaded.size());
+                })
+                .then();
+    }
+
+    /**
+     * Periodically refreshes the catalog. A failed refresh keeps the previous catalog in place.
+     */
+    @Scheduled(
+            initialDelayString = "${crediya.roles.refresh-interval:PT5M}",
+            fixedDelayString = "${crediya.roles.refresh-interval:PT5M}"
+    )
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                null,
+                error -> log.warn("Role catalog refresh failed, keeping the previous catalog: {}", error.getMessage())
+        );
+    }
+
+    @Override
+    public void start() {
+        refresh().block(INITIAL_LOAD_TIMEOUT);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
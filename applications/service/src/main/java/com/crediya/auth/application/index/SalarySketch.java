@@ -0,0 +1,147 @@
+package com.crediya.auth.application.index;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A mergeable quantile sketch for salaries with a fixed relative accuracy, in the style of DDSketch.
+ * <p>
+ * Values are counted in logarithmic buckets whose bounds grow by a factor of {@code (1 + a) / (1 - a)}, so any
+ * quantile is reported within {@value #RELATIVE_ACCURACY} relative error of the exact value. Adding and removing a
+ * value is a single atomic increment, two sketches merge by adding their bucket counts, and the memory used does not
+ * depend on the number of values. Values below 1 are counted in a dedicated zero bucket.
+ */
+public class SalarySketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final double MAX_TRACKED_VALUE = 1e9;
+    private static final int BUCKETS = 2 + (int) Math.ceil(Math.log(MAX_TRACKED_VALUE) / LOG_GAMMA);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Maps a value to its bucket. Bucket 0 holds values below 1; values above the tracked range share the last bucket.
+     *
+     * @param value The value.
+     * @return The index of the bucket counting the value.
+     */
+    public static int bucketOf(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        if (doubleValue < 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 1 + (int) Math.ceil(Math.log(doubleValue) / LOG_GAMMA));
+    }
+
+    public void increment(int bucket) {
+        counts.incrementAndGet(bucket);
+    }
+
+    public void decrement(int bucket) {
+        counts.decrementAndGet(bucket);
+    }
+
+    /**
+     * Adds the counts of another sketch to this one.
+     *
+     * @param other The sketch to merge.
+     */
+    public void merge(SalarySketch other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long count = other.counts.get(bucket);
+            if (count != 0) {
+                counts.addAndGet(bucket, count);
+            }
+        }
+    }
+
+    /**
+     * Writes the non-empty buckets of the sketch. The bucket layout depends on {@link #RELATIVE_ACCURACY}, so changing
+     * it invalidates existing snapshots.
+     *
+     * @param out The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        int nonEmpty = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (counts.get(bucket) != 0) {
+                nonEmpty++;
+            }
+        }
+        out.writeInt(nonEmpty);
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long count = counts.get(bucket);
+            if (count != 0) {
+                out.writeInt(bucket);
+                out.writeLong(count);
+            }
+        }
+    }
+
+    /**
+     * Adds the buckets written by {@link #writeTo} to this sketch.
+     *
+     * @param in The input to read from.
+     */
+    public void readFrom(ByteBuffer in) {
+        int nonEmpty = in.getInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            counts.addAndGet(in.getInt(), in.getLong());
+        }
+    }
+
+    /**
+     * @return The number of values currently in the sketch.
+     */
+    public long count() {
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            total += counts.get(bucket);
+        }
+        return total;
+    }
+
+    /**
+     * Estimates a quantile of the values in the sketch.
+     *
+     * @param quantile The quantile, between 0 and 1.
+     * @return The estimated value, or null if the sketch is empty.
+     */
+    public BigDecimal quantile(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            total += snapshot[bucket];
+        }
+        if (total == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(quantile * (total - 1));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += snapshot[bucket];
+            if (seen > rank) {
+                return valueOf(bucket);
+            }
+        }
+        return valueOf(BUCKETS - 1);
+    }
+
+    /**
+     * Returns the value that is within the relative accuracy of every value counted in the bucket.
+     */
+    private static BigDecimal valueOf(int bucket) {
+        if (bucket == 0) {
+            return BigDecimal.ZERO;
+        }
+        double estimate = 2 * Math.pow(GAMMA, bucket - 1) / (GAMMA + 1);
+        return BigDecimal.valueOf(Math.round(estimate));
+    }
+}
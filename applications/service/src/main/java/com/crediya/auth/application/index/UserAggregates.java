@@ -0,0 +1,185 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.application.ports.in.UserStats;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import org.springframework.stereotype.Component;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live distribution statistics over the users: count, salary percentiles and age buckets, per role.
+ * <p>
+ * Every user registered or updated adjusts a handful of counters in O(1), so reading the statistics never touches
+ * the database. Salaries are counted in a {@link SalarySketch} per role, which merge into the overall percentiles;
+ * ages are kept as birth-year counts and bucketed when read, so they stay correct as time passes. The salary bucket
+ * of each user is remembered so that a salary update can move the user between buckets.
+ */
+@Component
+public class UserAggregates implements UserIndex {
+
+    static final String NO_ROLE = "NONE";
+
+    private static final int[] AGE_BUCKET_LOWER_BOUNDS = {0, 18, 26, 36, 46, 56, 66};
+    private static final String[] AGE_BUCKET_LABELS = {"<18", "18-25", "26-35", "36-45", "46-55", "56-65", "66+"};
+
+    private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Placement> placements = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "aggregates";
+    }
+
+    @Override
+    public void add(User user) {
+        Group group = groups.computeIfAbsent(user.getIdRole() == null ? NO_ROLE : user.getIdRole(), role -> new Group());
+        int salaryBucket = SalarySketch.bucketOf(user.getBaseSalary());
+        if (placements.putIfAbsent(user.getId(), new Placement(group, salaryBucket)) == null) {
+            group.count.increment();
+            group.salaries.increment(salaryBucket);
+            group.birthYears.computeIfAbsent(user.getBirthDate().getYear(), year -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void update(Long id, UserPatch patch) {
+        if (patch.getBaseSalary() == null) {
+            return;
+        }
+        int salaryBucket = SalarySketch.bucketOf(patch.getBaseSalary());
+        placements.computeIfPresent(id, (key, placement) -> {
+            placement.group().salaries.decrement(placement.salaryBucket());
+            placement.group().salaries.increment(salaryBucket);
+            return new Placement(placement.group(), salaryBucket);
+        });
+    }
+
+    /**
+     * Writes every role group followed by the group and salary bucket of each user, which references its group by
+     * position.
+     */
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        Map<Group, Integer> positions = new IdentityHashMap<>();
+        out.writeInt(groups.size());
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            positions.put(group, positions.size());
+            SnapshotCodec.writeString(out, entry.getKey());
+            out.writeLong(group.count.sum());
+            group.salaries.writeTo(out);
+            out.writeInt(group.birthYears.size());
+            for (Map.Entry<Integer, LongAdder> birthYear : group.birthYears.entrySet()) {
+                out.writeInt(birthYear.getKey());
+                out.writeLong(birthYear.getValue().sum());
+            }
+        }
+
+        out.writeInt(placements.size());
+        for (Map.Entry<Long, Placement> entry : placements.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeInt(positions.get(entry.getValue().group()));
+            out.writeInt(entry.getValue().salaryBucket());
+        }
+    }
+
+    @Override
+    public void readFrom(ByteBuffer in) {
+        int groupCount = in.getInt();
+        List<Group> byPosition = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            Group group = groups.computeIfAbsent(SnapshotCodec.readString(in), role -> new Group());
+            group.count.add(in.getLong());
+            group.salaries.readFrom(in);
+            int birthYears = in.getInt();
+            for (int j = 0; j < birthYears; j++) {
+                group.birthYears.computeIfAbsent(in.getInt(), year -> new LongAdder()).add(in.getLong());
+            }
+            byPosition.add(group);
+        }
+
+        int users = in.getInt();
+        for (int i = 0; i < users; i++) {
+            placements.put(in.getLong(), new Placement(byPosition.get(in.getInt()), in.getInt()));
+        }
+    }
+
+    /**
+     * Builds the current statistics from the in-memory counters.
+     *
+     * @return The statistics overall and per role.
+     */
+    public UserStats stats() {
+        return stats(LocalDate.now());
+    }
+
+    UserStats stats(LocalDate today) {
+        Map<String, UserStats.GroupStats> byRole = new TreeMap<>();
+        SalarySketch allSalaries = new SalarySketch();
+        Map<Integer, Long> allBirthYears = new TreeMap<>();
+        long allCount = 0;
+
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            Map<Integer, Long> birthYears = new TreeMap<>();
+            group.birthYears.forEach((year, count) -> birthYears.put(year, count.sum()));
+            long count = group.count.sum();
+
+            byRole.put(entry.getKey(), groupStats(count, group.salaries, birthYears, today));
+            allSalaries.merge(group.salaries);
+            birthYears.forEach((year, yearCount) -> allBirthYears.merge(year, yearCount, Long::sum));
+            allCount += count;
+        }
+        return new UserStats(groupStats(allCount, allSalaries, allBirthYears, today), byRole);
+    }
+
+    private UserStats.GroupStats groupStats(long count, SalarySketch salaries, Map<Integer, Long> birthYears, LocalDate today) {
+        UserStats.SalaryPercentiles percentiles = new UserStats.SalaryPercentiles(
+                salaries.quantile(0.5), salaries.quantile(0.9), salaries.quantile(0.99));
+        return new UserStats.GroupStats(count, percentiles, ageBuckets(birthYears, today));
+    }
+
+    /**
+     * Buckets users by the age they reach in the current year.
+     */
+    private Map<String, Long> ageBuckets(Map<Integer, Long> birthYears, LocalDate today) {
+        long[] counts = new long[AGE_BUCKET_LABELS.length];
+        birthYears.forEach((year, count) -> counts[ageBucketOf(today.getYear() - year)] += count);
+
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            buckets.put(AGE_BUCKET_LABELS[bucket], counts[bucket]);
+        }
+        return buckets;
+    }
+
+    private int ageBucketOf(int age) {
+        int bucket = 0;
+        while (bucket + 1 < AGE_BUCKET_LOWER_BOUNDS.length && age >= AGE_BUCKET_LOWER_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static final class Group {
+        private final LongAdder count = new LongAdder();
+        private final SalarySketch salaries = new SalarySketch();
+        private final ConcurrentMap<Integer, LongAdder> birthYears = new ConcurrentHashMap<>();
+    }
+
+    private record Placement(Group group, int salaryBucket) {
+    }
+}
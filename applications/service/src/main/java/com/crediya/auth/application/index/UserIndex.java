@@ -0,0 +1,58 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An in-memory structure derived from the 'usuario' table.
+ * <p>
+ * Implementations are fed by {@link UserIndexes}: first with every stored user at startup, then incrementally with
+ * each user saved or updated through the use cases. Calls may arrive concurrently with reads, so implementations
+ * must be thread-safe.
+ * <p>
+ * Each index can also serialize itself into a snapshot section, so it can be restored after a restart without a
+ * table scan. {@link UserIndexes} never writes a snapshot concurrently with {@link #add} or {@link #update}.
+ */
+public interface UserIndex {
+
+    /**
+     * @return A stable name identifying this index's section in a snapshot.
+     */
+    String name();
+
+    /**
+     * Adds a persisted user to the index. Adding a user that is already indexed has no effect.
+     *
+     * @param user The user, including its generated ID.
+     */
+    void add(User user);
+
+    /**
+     * Applies a partial update that was written for an indexed user. Indexes that do not depend on the updatable
+     * fields can ignore it.
+     *
+     * @param id    The ID of the updated user.
+     * @param patch The fields that changed.
+     */
+    default void update(Long id, UserPatch patch) {
+    }
+
+    /**
+     * Writes the complete state of the index.
+     *
+     * @param out The output of this index's snapshot section.
+     * @throws IOException If the output cannot be written.
+     */
+    void writeTo(DataOutput out) throws IOException;
+
+    /**
+     * Restores the state written by {@link #writeTo} into an empty index.
+     *
+     * @param in This index's snapshot section.
+     */
+    void readFrom(ByteBuffer in);
+}
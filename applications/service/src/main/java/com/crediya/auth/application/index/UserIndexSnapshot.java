@@ -0,0 +1,18 @@
+package com.crediya.auth.application.index;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A point-in-time copy of every {@link UserIndex}.
+ *
+ * @param highWaterMark The highest user ID contained in the snapshot; users above it must be replayed.
+ * @param userCount     The number of users contained in the snapshot, all with an ID up to the high-water mark.
+ * @param versionSum    The sum of the versions of those users, which grows with every update applied to them.
+ * @param createdAt     When the snapshot was taken.
+ * @param sections      The serialized state of each index, keyed by {@link UserIndex#name()}.
+ */
+public record UserIndexSnapshot(long highWaterMark, long userCount, long versionSum, Instant createdAt,
+                                Map<String, ByteBuffer> sections) {
+}
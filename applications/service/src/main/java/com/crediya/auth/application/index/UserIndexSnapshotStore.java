@@ -0,0 +1,24 @@
+package com.crediya.auth.application.index;
+
+import java.util.Optional;
+
+/**
+ * Persists {@link UserIndexSnapshot}s so that the indexes can be restored after a restart without scanning the whole
+ * 'usuario' table. When no store is configured, the indexes are always loaded from the database.
+ */
+public interface UserIndexSnapshotStore {
+
+    /**
+     * Reads the latest usable snapshot.
+     *
+     * @return The snapshot, or empty if there is none or it is unreadable or too old.
+     */
+    Optional<UserIndexSnapshot> load();
+
+    /**
+     * Replaces the stored snapshot.
+     *
+     * @param snapshot The snapshot to store.
+     */
+    void save(UserIndexSnapshot snapshot);
+}
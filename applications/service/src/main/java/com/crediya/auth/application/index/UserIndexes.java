@@ -0,0 +1,289 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Loads every {@link UserIndex} and keeps them up to date.
+ * <p>
+ * At startup, before the web server accepts requests, the indexes are restored from the latest snapshot when a
+ * {@link UserIndexSnapshotStore} is configured, and only the users above the snapshot's high-water mark are streamed
+ * from the 'usuario' table; without a usable snapshot the whole table is streamed in ID order. A snapshot is only
+ * usable if the table still holds exactly as many users up to its high-water mark as the snapshot does, with the same
+ * sum of versions, and at least that high-water mark as its highest ID. Rows committed out of ID order, inserted by
+ * another instance or by the bulk importer, users updated after the snapshot was taken (every update increments a
+ * version), or a table recreated since the snapshot, therefore lead to a full scan rather than to stale or missing
+ * users.
+ * Afterwards the use cases report each saved or updated user here, so the indexes never query the database again.
+ * <p>
+ * Snapshots are taken on shutdown and periodically. Taking one briefly blocks index updates, so every snapshot is
+ * consistent with its high-water mark; reads are never blocked.
+ */
+@Slf4j
+@Component
+public class UserIndexes implements SmartLifecycle {
+
+    /**
+     * Runs before the web server lifecycle so no request is served from an empty index.
+     */
+    private static final int PHASE = 0;
+
+    private final UserRepository userRepository;
+    private final List<UserIndex> indexes;
+    private final Optional<UserIndexSnapshotStore> snapshotStore;
+    private final Duration loadTimeout;
+
+    private final AtomicLong highWaterMark = new AtomicLong();
+    private final AtomicLong userCount = new AtomicLong();
+    private final AtomicLong versionSum = new AtomicLong();
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private volatile LoadReport loadReport;
+    private volatile boolean running;
+
+    public UserIndexes(
+            UserRepository userRepository,
+            List<UserIndex> indexes,
+            Optional<UserIndexSnapshotStore> snapshotStore,
+            @Value("${crediya.users.index.load-timeout:PT5M}") Duration loadTimeout) {
+        this.userRepository = userRepository;
+        this.indexes = List.copyOf(indexes);
+        this.snapshotStore = snapshotStore;
+        this.loadTimeout = loadTimeout;
+    }
+
+    /**
+     * Streams the users with an ID above the current high-water mark into every index.
+     *
+     * @return A reactive stream emitting the number of users loaded.
+     */
+    public Mono<Long> load() {
+        return userRepository.findByIdGreaterThan(highWaterMark.get())
+                .doOnNext(this::added)
+                .count();
+    }
+
+    /**
+     * Adds a newly saved user to every index.
+     *
+     * @param user The saved user, including its generated ID.
+     */
+    public void added(User user) {
+        snapshotLock.readLock().lock();
+        try {
+            for (UserIndex index : indexes) {
+                index.add(user);
+            }
+            highWaterMark.accumulateAndGet(user.getId(), Math::max);
+            userCount.incrementAndGet();
+            versionSum.addAndGet(user.getVersion() == null ? 0L : user.getVersion());
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a written partial update to every index. The update incremented the version of the user by one.
+     *
+     * @param id    The ID of the updated user.
+     * @param patch The fields that changed.
+     */
+    public void updated(Long id, UserPatch patch) {
+        snapshotLock.readLock().lock();
+        try {
+            for (UserIndex index : indexes) {
+                index.update(id, patch);
+            }
+            versionSum.incrementAndGet();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The highest user ID fed to the indexes so far.
+     */
+    public long highWaterMark() {
+        return highWaterMark.get();
+    }
+
+    /**
+     * @return How the indexes were loaded at startup, or empty while they are still loading.
+     */
+    public Optional<LoadReport> loadReport() {
+        return Optional.ofNullable(loadReport);
+    }
+
+    /**
+     * @return The number of users fed to the indexes so far.
+     */
+    public long userCount() {
+        return userCount.get();
+    }
+
+    /**
+     * Serializes every index, together with the high-water mark, the user count and the version sum, while updates
+     * are held back.
+     *
+     * @return The snapshot.
+     */
+    public UserIndexSnapshot snapshot() {
+        snapshotLock.writeLock().lock();
+        try {
+            Map<String, ByteBuffer> sections = new HashMap<>();
+            for (UserIndex index : indexes) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                index.writeTo(new DataOutputStream(bytes));
+                sections.put(index.name(), ByteBuffer.wrap(bytes.toByteArray()));
+            }
+            return new UserIndexSnapshot(highWaterMark.get(), userCount.get(), versionSum.get(), Instant.now(), sections);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Periodically stores a snapshot, if a snapshot store is configured. A failed snapshot keeps the previous one.
+     */
+    @Scheduled(
+            initialDelayString = "${crediya.users.index.snapshot.interval:PT10M}",
+            fixedDelayString = "${crediya.users.index.snapshot.interval:PT10M}"
+    )
+    public void scheduledSnapshot() {
+        if (running) {
+            saveSnapshot();
+        }
+    }
+
+    @Override
+    public void start() {
+        long start = System.nanoTime();
+        Optional<UserIndexSnapshot> restored = snapshotStore.flatMap(UserIndexSnapshotStore::load)
+                .filter(snapshot -> coversEveryIndex(snapshot) && matchesDatabase(snapshot));
+        restored.ifPresent(this::restore);
+        long restoredUpTo = restored.map(UserIndexSnapshot::highWaterMark).orElse(0L);
+        long loaded = load().block(loadTimeout);
+
+        loadReport = new LoadReport(restored.isPresent(), restoredUpTo, loaded, Duration.ofNanos(System.nanoTime() - start));
+        log.info("User indexes ready: restored from snapshot up to ID {}, loaded {} users from the database in {} ms.",
+                restoredUpTo, loaded, loadReport.duration().toMillis());
+        running = true;
+    }
+
+    /**
+     * Stores a final snapshot once the web server has stopped serving requests.
+     */
+    @Override
+    public void stop() {
+        if (running) {
+            running = false;
+            saveSnapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Checks that the snapshot has a section for every index, so the indexes are either all restored or all loaded
+     * from the database.
+     */
+    private boolean coversEveryIndex(UserIndexSnapshot snapshot) {
+        for (UserIndex index : indexes) {
+            if (!snapshot.sections().containsKey(index.name())) {
+                log.warn("Ignoring user index snapshot without a '{}' section.", index.name());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the snapshot against the 'usuario' table. Replaying only the IDs above the high-water mark is correct only
+     * if every row up to it is already in the snapshot in its current version, and the table has not been recreated
+     * since it was taken.
+     */
+    private boolean matchesDatabase(UserIndexSnapshot snapshot) {
+        Tuple3<Long, Long, Long> table = Mono.zip(
+                        userRepository.findMaxId(),
+                        userRepository.countByIdLessThanOrEqual(snapshot.highWaterMark()),
+                        userRepository.sumVersionsByIdLessThanOrEqual(snapshot.highWaterMark()))
+                .block(loadTimeout);
+        long maxId = table.getT1();
+        long countUpToHighWaterMark = table.getT2();
+        long versionSumUpToHighWaterMark = table.getT3();
+        if (maxId < snapshot.highWaterMark()
+                || countUpToHighWaterMark != snapshot.userCount()
+                || versionSumUpToHighWaterMark != snapshot.versionSum()) {
+            log.warn("Ignoring user index snapshot with {} users and a version sum of {} up to ID {}: the table holds {}"
+                            + " users with a version sum of {} up to that ID and its highest ID is {}.",
+                    snapshot.userCount(), snapshot.versionSum(), snapshot.highWaterMark(),
+                    countUpToHighWaterMark, versionSumUpToHighWaterMark, maxId);
+            return false;
+        }
+        return true;
+    }
+
+    private void restore(UserIndexSnapshot snapshot) {
+        for (UserIndex index : indexes) {
+            index.readFrom(snapshot.sections().get(index.name()));
+        }
+        highWaterMark.set(snapshot.highWaterMark());
+        userCount.set(snapshot.userCount());
+        versionSum.set(snapshot.versionSum());
+    }
+
+    private void saveSnapshot() {
+        snapshotStore.ifPresent(store -> {
+            try {
+                UserIndexSnapshot snapshot = snapshot();
+                store.save(snapshot);
+                log.info("Stored user index snapshot up to ID {}.", snapshot.highWaterMark());
+            } catch (RuntimeException ex) {
+                log.warn("User index snapshot failed, keeping the previous one: {}", ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Describes how the indexes were loaded at startup.
+     *
+     * @param fromSnapshot       Whether a snapshot was restored.
+     * @param restoredUpTo       The high-water mark of the restored snapshot, or 0.
+     * @param loadedFromDatabase The number of users streamed from the database.
+     * @param duration           The total loading time.
+     */
+    public record LoadReport(boolean fromSnapshot, long restoredUpTo, long loadedFromDatabase, Duration duration) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.application.ports.in.UserSearchResult;
+import com.crediya.auth.domain.model.User;
+import org.springframework.stereotype.Component;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix index over the first name, last name and identity document of every user.
+ * <p>
+ * Each user contributes one posting per normalized token, stored as {@code token + '\0' + id} in a sorted set, so
+ * all users with a token starting with a prefix form one contiguous range that is found in O(log n). Tokens are
+ * lowercased and stripped of accents; identity documents are indexed without separators. Each user holds at most
+ * {@value #MAX_TOKENS_PER_USER} tokens of at most {@value #MAX_TOKEN_LENGTH} characters, which bounds the memory per
+ * indexed user.
+ */
+@Component
+public class UserSearchIndex implements UserIndex {
+
+    static final int MAX_TOKENS_PER_USER = 8;
+    static final int MAX_TOKEN_LENGTH = 32;
+
+    /**
+     * Caps the work of a query whose leading term is very common but whose other terms rarely match.
+     */
+    private static final int MAX_SCANNED_POSTINGS = 10_000;
+    private static final char SEPARATOR = '\0';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> postings = new ConcurrentSkipListSet<>();
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public void add(User user) {
+        index(new UserSearchResult(user.getId(), user.getFirstName(), user.getLastName(), user.getIdentityNumber(), user.getIdRole()));
+    }
+
+    /**
+     * Writes the indexed fields of every user; tokens and postings are derived again when the snapshot is read.
+     */
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(entries.size());
+        for (Entry entry : entries.values()) {
+            UserSearchResult result = entry.result();
+            out.writeLong(result.id());
+            SnapshotCodec.writeString(out, result.firstName());
+            SnapshotCodec.writeString(out, result.lastName());
+            SnapshotCodec.writeString(out, result.identityNumber());
+            SnapshotCodec.writeString(out, result.idRole());
+        }
+    }
+
+    @Override
+    public void readFrom(ByteBuffer in) {
+        int users = in.getInt();
+        for (int i = 0; i < users; i++) {
+            index(new UserSearchResult(in.getLong(), SnapshotCodec.readString(in), SnapshotCodec.readString(in),
+                    SnapshotCodec.readString(in), SnapshotCodec.readString(in)));
+        }
+    }
+
+    /**
+     * Finds the users that have, for every term of the query, a token starting with that term.
+     * Users whose token equals the longest term come before users whose token merely starts with it.
+     *
+     * @param query The search terms, separated by whitespace.
+     * @param limit The maximum number of results to return.
+     * @return At most {@code limit} matching users.
+     */
+    public List<UserSearchResult> search(String query, int limit) {
+        String[] terms = termsOf(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String leading = terms[0];
+        for (String term : terms) {
+            if (term.length() > leading.length()) {
+                leading = term;
+            }
+        }
+
+        List<UserSearchResult> results = new ArrayList<>(Math.min(limit, 16));
+        Set<Long> seen = new HashSet<>();
+        int scanned = 0;
+        for (String posting : postings.tailSet(leading)) {
+            if (!posting.startsWith(leading) || ++scanned > MAX_SCANNED_POSTINGS) {
+                break;
+            }
+            Long id = Long.parseLong(posting, posting.lastIndexOf(SEPARATOR) + 1, posting.length(), 10);
+            Entry entry = entries.get(id);
+            if (entry != null && entry.matchesAll(terms) && seen.add(id)) {
+                results.add(entry.result());
+                if (results.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    private void index(UserSearchResult result) {
+        Entry entry = new Entry(result, tokensOf(result.firstName(), result.lastName(), result.identityNumber()));
+        if (entries.putIfAbsent(result.id(), entry) == null) {
+            for (String token : entry.tokens()) {
+                postings.add(token + SEPARATOR + result.id());
+            }
+        }
+    }
+
+    /**
+     * @return The number of indexed users.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    static String[] tokensOf(String firstName, String lastName, String identityNumber) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addWords(tokens, firstName);
+        addWords(tokens, lastName);
+        if (identityNumber != null) {
+            addToken(tokens, NON_ALPHANUMERIC.matcher(normalize(identityNumber)).replaceAll(""));
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    /**
+     * Splits a query on whitespace. Terms without letters are read as (part of) a document and lose their
+     * separators, like indexed documents; other terms are split into words, like indexed names.
+     */
+    static String[] termsOf(String query) {
+        if (query == null) {
+            return new String[0];
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String raw : WHITESPACE.split(normalize(query))) {
+            if (raw.chars().noneMatch(Character::isLetter)) {
+                addTerm(terms, NON_ALPHANUMERIC.matcher(raw).replaceAll(""));
+            } else {
+                Arrays.stream(NON_ALPHANUMERIC.split(raw)).forEach(word -> addTerm(terms, word));
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private static void addWords(Set<String> tokens, String text) {
+        if (text != null) {
+            for (String word : NON_ALPHANUMERIC.split(normalize(text))) {
+                addToken(tokens, word);
+            }
+        }
+    }
+
+    private static void addToken(Set<String> tokens, String token) {
+        if (!token.isEmpty() && tokens.size() < MAX_TOKENS_PER_USER) {
+            tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+        }
+    }
+
+    private static void addTerm(Set<String> terms, String term) {
+        if (!term.isEmpty()) {
+            terms.add(term.length() > MAX_TOKEN_LENGTH ? term.substring(0, MAX_TOKEN_LENGTH) : term);
+        }
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(UserSearchResult result, String[] tokens) {
+
+        boolean matchesAll(String[] terms) {
+            for (String term : terms) {
+                if (!matches(term)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matches(String term) {
+            for (String token : tokens) {
+                if (token.startsWith(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.ports.in.DuplicateCandidate;
+import com.crediya.auth.application.ports.in.DuplicateMatch;
+import com.crediya.auth.application.ports.in.FindDuplicatesPort;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FindDuplicatesUseCase implements FindDuplicatesPort {
+
+    /**
+     * Candidates checked by each pair of {@code IN} queries.
+     */
+    static final int CHUNK_SIZE = 1_000;
+
+    /**
+     * Chunks queried at the same time, which also bounds how much of the input is buffered.
+     */
+    static final int MAX_CONCURRENT_CHUNKS = 4;
+
+    private final UserRepository userRepository;
+
+    /**
+     * Groups the candidates into chunks of {@value #CHUNK_SIZE} and checks each chunk with one query for its emails
+     * and one for its identity documents, with at most {@value #MAX_CONCURRENT_CHUNKS} chunks in flight. The work is
+     * linear in the number of candidates and memory does not depend on it. Emails are compared normalized, like at
+     * registration; identity documents are compared exactly, without surrounding whitespace.
+     *
+     * @param candidates The emails and identity documents to check.
+     * @return A reactive stream of the submitted values that are already registered.
+     */
+    @Override
+    public Flux<DuplicateMatch> findDuplicates(Flux<DuplicateCandidate> candidates) {
+        return candidates
+                .buffer(CHUNK_SIZE)
+                .flatMap(this::findDuplicatesInChunk, MAX_CONCURRENT_CHUNKS);
+    }
+
+    private Flux<DuplicateMatch> findDuplicatesInChunk(List<DuplicateCandidate> chunk) {
+        Map<String, String> submittedByNormalizedEmail = new HashMap<>();
+        Set<String> identityNumbers = new HashSet<>();
+        for (DuplicateCandidate candidate : chunk) {
+            if (isPresent(candidate.email())) {
+                submittedByNormalizedEmail.putIfAbsent(User.normalizeEmail(candidate.email()), candidate.email());
+            }
+            if (isPresent(candidate.identityNumber())) {
+                identityNumbers.add(candidate.identityNumber().trim());
+            }
+        }
+        log.trace("Checking {} emails and {} identity numbers for duplicates", submittedByNormalizedEmail.size(), identityNumbers.size());
+
+        Flux<DuplicateMatch> emails = userRepository.findExistingNormalizedEmails(submittedByNormalizedEmail.keySet())
+                .map(normalizedEmail -> new DuplicateMatch(DuplicateMatch.Field.EMAIL, submittedByNormalizedEmail.get(normalizedEmail)));
+        Flux<DuplicateMatch> documents = userRepository.findExistingIdentityNumbers(identityNumbers)
+                .map(identityNumber -> new DuplicateMatch(DuplicateMatch.Field.IDENTITY_NUMBER, identityNumber));
+        return Flux.merge(emails, documents);
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,25 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.index.UserAggregates;
+import com.crediya.auth.application.ports.in.GetUserStatsPort;
+import com.crediya.auth.application.ports.in.UserStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class GetUserStatsUseCase implements GetUserStatsPort {
+
+    private final UserAggregates userAggregates;
+
+    /**
+     * Reads the user statistics from the incrementally maintained {@link UserAggregates}, without any database access.
+     *
+     * @return A reactive stream emitting the current statistics.
+     */
+    @Override
+    public Mono<UserStats> getUserStats() {
+        return Mono.fromSupplier(userAggregates::stats);
+    }
+}
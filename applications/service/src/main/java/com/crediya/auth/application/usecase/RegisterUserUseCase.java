@@ -1,35 +1,57 @@
 package com.crediya.auth.application.usecase;
 
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.application.exceptions.DeadlineExceededException;
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.InvalidRoleException;
+import com.crediya.auth.application.index.UserIndexes;
 import com.crediya.auth.application.ports.in.RegisterUserCommand;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RequestDeadline;
+import com.crediya.auth.application.ports.in.StageTimings;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.TransactionalBoundary;
 import com.crediya.auth.domain.ports.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RegisterUserUseCase implements RegisterUserPort {
 
+    static final String STAGE_EXISTS_BY_EMAIL = "exists-by-email";
+    static final String STAGE_INSERT = "insert";
+
     private final UserRepository userRepository;
+    private final RoleCatalog roleCatalog;
+    private final UserIndexes userIndexes;
+    private final TransactionalBoundary transactionalBoundary;
 
     /**
      * Orchestrates the registration of a new user.
+     * The email check is a plain read and runs outside any transaction; only the insert runs in one, so a database
+     * connection is held in a transaction just for the write. The indexes are updated once the insert is committed.
+     * When a {@link RequestDeadline} is present in the Reactor Context, each stage only gets the remaining budget;
+     * when {@link StageTimings} are present, each stage records its duration.
      *
      * @param command The command object containing all necessary data for registration.
      * @return A reactive stream emitting the newly created User.
      */
     @Override
-    @Transactional
     public Mono<User> registerUser(RegisterUserCommand command) {
         log.trace("Attempting to register user with email: {}", command.email());
 
-        return userRepository.existsByEmail(command.email())
+        if (!roleCatalog.contains(command.idRole())) {
+            log.warn("Registration failed: Role {} does not exist.", command.idRole());
+            return Mono.error(new InvalidRoleException("Role " + command.idRole() + " does not exist."));
+        }
+
+        return stage(STAGE_EXISTS_BY_EMAIL, userRepository.existsByEmail(command.email()))
                 .flatMap(emailExists -> {
                     if (Boolean.TRUE.equals(emailExists)) {
                         log.warn("Registration failed: Email {} already exists.", command.email());
@@ -37,8 +59,53 @@ public class RegisterUserUseCase implements RegisterUserPort {
                     }
                     log.trace("Email {} is available. Proceeding with user creation.", command.email());
                     User userToRegister = command.toDomainUser();
-                    return userRepository.save(userToRegister)
+                    return stage(STAGE_INSERT, transactionalBoundary.inTransaction(userRepository.save(userToRegister)))
+                            .doOnNext(userIndexes::added)
                             .doOnSuccess(savedUser -> log.trace("Successfully saved user with ID: {}", savedUser.getId()));
                 });
     }
+
+    /**
+     * Runs a pipeline stage under the request context.
+     * <p>
+     * The stage is bounded by the time left on the request deadline, if any: a stage that runs out of budget is
+     * cancelled, which also cancels its in-flight database work, and fails with a {@link DeadlineExceededException}.
+     * Its duration is recorded when stage timings are being collected.
+     */
+    private <T> Mono<T> stage(String stage, Mono<T> step) {
+        return Mono.deferContextual(context -> {
+            Mono<T> bounded = context.<RequestDeadline>getOrEmpty(RequestDeadline.CONTEXT_KEY)
+                    .map(deadline -> withinDeadline(stage, step, deadline))
+                    .orElse(step);
+            return context.<StageTimings>getOrEmpty(StageTimings.CONTEXT_KEY)
+                    .map(timings -> timed(stage, bounded, timings))
+                    .orElse(bounded);
+        });
+    }
+
+    /**
+     * Records the time until the stage's first signal (value, error or completion) or its cancellation. Stopping
+     * at the first signal keeps downstream work that runs synchronously on the same signal out of the measurement.
+     */
+    private <T> Mono<T> timed(String stage, Mono<T> step, StageTimings timings) {
+        long start = System.nanoTime();
+        boolean[] recorded = {false};
+        Runnable record = () -> {
+            if (!recorded[0]) {
+                recorded[0] = true;
+                timings.record(stage, System.nanoTime() - start);
+            }
+        };
+        return step
+                .doOnEach(signal -> record.run())
+                .doOnCancel(record);
+    }
+
+    private <T> Mono<T> withinDeadline(String stage, Mono<T> step, RequestDeadline deadline) {
+        Duration remaining = deadline.remaining();
+        if (remaining.isZero() || remaining.isNegative()) {
+            return Mono.error(new DeadlineExceededException(stage));
+        }
+        return step.timeout(remaining, Mono.defer(() -> Mono.<T>error(new DeadlineExceededException(stage))));
+    }
 }
@@ -0,0 +1,43 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.exceptions.InvalidSearchException;
+import com.crediya.auth.application.index.UserSearchIndex;
+import com.crediya.auth.application.ports.in.SearchUsersPort;
+import com.crediya.auth.application.ports.in.UserSearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchUsersUseCase implements SearchUsersPort {
+
+    static final int MIN_QUERY_LENGTH = 2;
+    static final int MAX_LIMIT = 50;
+
+    private final UserSearchIndex userSearchIndex;
+
+    /**
+     * Searches users by partial name or identity document. The search is served entirely from the in-memory
+     * {@link UserSearchIndex}, without any database access.
+     *
+     * @param query The search terms, separated by whitespace; at least {@value #MIN_QUERY_LENGTH} characters.
+     * @param limit The maximum number of results to return, between 1 and {@value #MAX_LIMIT}.
+     * @return A reactive stream emitting the matching users.
+     */
+    @Override
+    public Mono<List<UserSearchResult>> searchUsers(String query, int limit) {
+        if (query == null || query.trim().length() < MIN_QUERY_LENGTH) {
+            return Mono.error(new InvalidSearchException("The search query must have at least " + MIN_QUERY_LENGTH + " characters."));
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Mono.error(new InvalidSearchException("The search limit must be between 1 and " + MAX_LIMIT + "."));
+        }
+        return Mono.fromSupplier(() -> userSearchIndex.search(query, limit))
+                .doOnNext(results -> log.trace("Search returned {} users", results.size()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.exceptions.InvalidUpdateException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.exceptions.UserVersionConflictException;
+import com.crediya.auth.application.index.UserIndexes;
+import com.crediya.auth.application.ports.in.UpdateUserCommand;
+import com.crediya.auth.application.ports.in.UpdateUserPort;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UpdateUserUseCase implements UpdateUserPort {
+
+    private final UserRepository userRepository;
+    private final UserIndexes userIndexes;
+
+    /**
+     * Orchestrates a partial update of a user under optimistic locking.
+     * <p>
+     * The update is a single version-guarded write. Only when it matches no row is the user looked up, to tell a
+     * version conflict apart from a missing user. A patch the domain rejects fails with an
+     * {@link InvalidUpdateException} before any database access.
+     *
+     * @param command The command object containing the user ID, the expected version and the fields to change.
+     * @return A reactive stream emitting the new version of the user.
+     */
+    @Override
+    public Mono<Long> updateUser(UpdateUserCommand command) {
+        log.trace("Attempting to update user {} at version {}", command.id(), command.expectedVersion());
+
+        return Mono.fromCallable(command::toDomainPatch)
+                .onErrorMap(IllegalArgumentException.class, ex -> new InvalidUpdateException(ex.getMessage()))
+                .flatMap(patch -> userRepository.updateIfVersionMatches(command.id(), command.expectedVersion(), patch)
+                        .flatMap(updated -> {
+                            if (Boolean.TRUE.equals(updated)) {
+                                userIndexes.updated(command.id(), patch);
+                                return Mono.just(command.expectedVersion() + 1);
+                            }
+                            return versionConflictOrNotFound(command);
+                        }))
+                .doOnSuccess(version -> log.trace("Successfully updated user {} to version {}", command.id(), version));
+    }
+
+    private Mono<Long> versionConflictOrNotFound(UpdateUserCommand command) {
+        return userRepository.existsById(command.id())
+                .flatMap(exists -> {
+                    if (Boolean.TRUE.equals(exists)) {
+                        log.warn("Update failed: User {} is no longer at version {}.", command.id(), command.expectedVersion());
+                        return Mono.error(new UserVersionConflictException(
+                                "User " + command.id() + " was modified concurrently; version " + command.expectedVersion() + " is no longer current."));
+                    }
+                    log.warn("Update failed: User {} does not exist.", command.id());
+                    return Mono.error(new UserNotFoundException("User " + command.id() + " does not exist."));
+                });
+    }
+}
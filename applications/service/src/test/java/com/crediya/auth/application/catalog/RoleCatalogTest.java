@@ -0,0 +1,77 @@
+package com.crediya.auth.application.catalog;
+
+import com.crediya.auth.domain.model.Role;
+import com.crediya.auth.domain.ports.out.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RoleCatalog.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoleCatalogTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleCatalog roleCatalog;
+
+    @Test
+    void shouldAnswerLookupsFromMemoryAfterStart() {
+
+        when(roleRepository.findAll()).thenReturn(Flux.just(
+                new Role("APPLICANT", "Solicitante", null),
+                new Role("ADVISOR", "Asesor", null)
+        ));
+
+        roleCatalog.start();
+
+        assertTrue(roleCatalog.isRunning());
+        assertTrue(roleCatalog.contains("APPLICANT"));
+        assertEquals("Asesor", roleCatalog.findById("ADVISOR").map(Role::getName).orElseThrow());
+        assertFalse(roleCatalog.contains("ADMIN"));
+        assertFalse(roleCatalog.contains(null));
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldReplaceCatalogOnRefresh() {
+
+        when(roleRepository.findAll())
+                .thenReturn(Flux.just(new Role("APPLICANT", "Solicitante", null)))
+                .thenReturn(Flux.just(new Role("ADMIN", "Administrador", null)));
+
+        StepVerifier.create(roleCatalog.refresh()).verifyComplete();
+        assertTrue(roleCatalog.contains("APPLICANT"));
+
+        StepVerifier.create(roleCatalog.refresh()).verifyComplete();
+        assertFalse(roleCatalog.contains("APPLICANT"));
+        assertTrue(roleCatalog.contains("ADMIN"));
+    }
+
+    @Test
+    void shouldKeepPreviousCatalogWhenRefreshFails() {
+
+        when(roleRepository.findAll())
+                .thenReturn(Flux.just(new Role("APPLICANT", "Solicitante", null)))
+                .thenReturn(Flux.error(new IllegalStateException("Database unavailable")));
+
+        StepVerifier.create(roleCatalog.refresh()).verifyComplete();
+        roleCatalog.scheduledRefresh();
+
+        assertTrue(roleCatalog.contains("APPLICANT"));
+    }
+}
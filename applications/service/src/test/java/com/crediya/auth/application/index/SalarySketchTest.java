@@ -0,0 +1,68 @@
+package com.crediya.auth.application.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the SalarySketch.
+ */
+class SalarySketchTest {
+
+    @Test
+    void shouldEstimateQuantilesWithinRelativeAccuracy() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1_000; salary <= 10_000_000; salary += 1_000) {
+            sketch.increment(SalarySketch.bucketOf(BigDecimal.valueOf(salary)));
+        }
+
+        assertWithinAccuracy(5_000_000, sketch.quantile(0.5));
+        assertWithinAccuracy(9_000_000, sketch.quantile(0.9));
+        assertWithinAccuracy(9_900_000, sketch.quantile(0.99));
+    }
+
+    @Test
+    void shouldMergeByAddingCounts() {
+        SalarySketch low = new SalarySketch();
+        SalarySketch high = new SalarySketch();
+        for (int i = 0; i < 100; i++) {
+            low.increment(SalarySketch.bucketOf(new BigDecimal("1000000")));
+            high.increment(SalarySketch.bucketOf(new BigDecimal("9000000")));
+        }
+
+        SalarySketch merged = new SalarySketch();
+        merged.merge(low);
+        merged.merge(high);
+
+        assertEquals(200, merged.count());
+        assertWithinAccuracy(1_000_000, merged.quantile(0.25));
+        assertWithinAccuracy(9_000_000, merged.quantile(0.75));
+    }
+
+    @Test
+    void shouldForgetDecrementedValues() {
+        SalarySketch sketch = new SalarySketch();
+        int bucket = SalarySketch.bucketOf(new BigDecimal("3000000"));
+        sketch.increment(bucket);
+        sketch.increment(SalarySketch.bucketOf(BigDecimal.ZERO));
+
+        sketch.decrement(bucket);
+
+        assertEquals(1, sketch.count());
+        assertEquals(BigDecimal.ZERO, sketch.quantile(0.5));
+    }
+
+    @Test
+    void shouldReturnNullQuantileWhenEmpty() {
+        assertNull(new SalarySketch().quantile(0.5));
+    }
+
+    private void assertWithinAccuracy(long expected, BigDecimal actual) {
+        double error = Math.abs(actual.doubleValue() - expected) / expected;
+        assertTrue(error <= SalarySketch.RELATIVE_ACCURACY + 1e-6, () -> "Expected ~" + expected + " but was " + actual);
+    }
+}
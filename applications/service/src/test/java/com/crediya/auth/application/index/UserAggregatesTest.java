@@ -0,0 +1,99 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.application.ports.in.UserStats;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import static com.crediya.auth.application.index.UserFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the UserAggregates.
+ */
+class UserAggregatesTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private final UserAggregates userAggregates = new UserAggregates();
+
+    @Test
+    void shouldCountUsersAndAgesPerRole() {
+        userAggregates.add(user(1L, "APPLICANT", "2000000", LocalDate.of(2000, 3, 1)));
+        userAggregates.add(user(2L, "APPLICANT", "4000000", LocalDate.of(1980, 7, 9)));
+        userAggregates.add(user(3L, "ADVISOR", "6000000", LocalDate.of(1995, 1, 1)));
+
+        UserStats stats = userAggregates.stats(TODAY);
+
+        assertEquals(3, stats.all().count());
+        assertEquals(2, stats.byRole().get("APPLICANT").count());
+        assertEquals(1L, stats.byRole().get("APPLICANT").ageBuckets().get("18-25"));
+        assertEquals(1L, stats.byRole().get("APPLICANT").ageBuckets().get("36-45"));
+        assertEquals(1L, stats.all().ageBuckets().get("26-35"));
+    }
+
+    @Test
+    void shouldMergeRoleSalariesIntoOverallPercentiles() {
+        for (long id = 1; id <= 50; id++) {
+            userAggregates.add(user(id, "APPLICANT", "1000000", LocalDate.of(1990, 1, 1)));
+            userAggregates.add(user(100 + id, "ADVISOR", "9000000", LocalDate.of(1990, 1, 1)));
+        }
+
+        UserStats stats = userAggregates.stats(TODAY);
+
+        assertClose(1_000_000, stats.byRole().get("APPLICANT").salary().p90());
+        assertClose(1_000_000, stats.all().salary().p50());
+        assertClose(9_000_000, stats.all().salary().p90());
+    }
+
+    @Test
+    void shouldMoveUserBetweenSalaryBucketsOnUpdate() {
+        userAggregates.add(user(1L, "APPLICANT", "1000000", LocalDate.of(1990, 1, 1)));
+
+        userAggregates.update(1L, new UserPatch(null, null, new BigDecimal("8000000")));
+
+        UserStats stats = userAggregates.stats(TODAY);
+        assertEquals(1, stats.all().count());
+        assertClose(8_000_000, stats.all().salary().p50());
+    }
+
+    @Test
+    void shouldIgnoreUsersThatAreAlreadyCounted() {
+        User user = user(1L, "APPLICANT", "1000000", LocalDate.of(1990, 1, 1));
+        userAggregates.add(user);
+        userAggregates.add(user);
+
+        assertEquals(1, userAggregates.stats(TODAY).all().count());
+    }
+
+    @Test
+    void shouldRestoreTheSameStatsAndPlacementsFromItsSnapshot() throws IOException {
+        userAggregates.add(user(1L, "APPLICANT", "2000000", LocalDate.of(2000, 3, 1)));
+        userAggregates.add(user(2L, "ADVISOR", "6000000", LocalDate.of(1980, 7, 9)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        userAggregates.writeTo(new DataOutputStream(bytes));
+
+        UserAggregates restored = new UserAggregates();
+        restored.readFrom(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertEquals(userAggregates.stats(TODAY), restored.stats(TODAY));
+
+        restored.add(user(1L, "APPLICANT", "2000000", LocalDate.of(2000, 3, 1)));
+        restored.update(2L, new UserPatch(null, null, new BigDecimal("9000000")));
+        assertEquals(2, restored.stats(TODAY).all().count());
+        assertClose(9_000_000, restored.stats(TODAY).byRole().get("ADVISOR").salary().p50());
+    }
+
+    private void assertClose(long expected, BigDecimal actual) {
+        assertTrue(Math.abs(actual.doubleValue() - expected) / expected <= SalarySketch.RELATIVE_ACCURACY + 1e-6,
+                () -> "Expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,34 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.domain.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Stored users for the index tests. Unless a test sets them, the names, birth date, role and salary are fixed, and
+ * the email and identity document are derived from the ID so every user is unique.
+ */
+final class UserFixtures {
+
+    private UserFixtures() {
+    }
+
+    static User user(long id) {
+        return user(id, "Larry", "Ramirez", String.valueOf(id), LocalDate.of(1990, 1, 1), "APPLICANT", "1000000");
+    }
+
+    static User user(long id, String firstName, String lastName, String identityNumber) {
+        return user(id, firstName, lastName, identityNumber, LocalDate.of(1990, 1, 1), "APPLICANT", "1000000");
+    }
+
+    static User user(long id, String idRole, String salary, LocalDate birthDate) {
+        return user(id, "Larry", "Ramirez", String.valueOf(id), birthDate, idRole, salary);
+    }
+
+    private static User user(long id, String firstName, String lastName, String identityNumber, LocalDate birthDate,
+                             String idRole, String salary) {
+        return new User(id, firstName, lastName, "user" + id + "@outlook.com", identityNumber, null,
+                birthDate, "123 Main St", idRole, new BigDecimal(salary), 0L);
+    }
+}
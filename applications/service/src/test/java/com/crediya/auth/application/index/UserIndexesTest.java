@@ -0,0 +1,201 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.crediya.auth.application.index.UserFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the UserIndexes.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserIndexesTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIndex userIndex;
+
+    @Mock
+    private UserIndexSnapshotStore snapshotStore;
+
+    @Test
+    void shouldStreamEveryUserIntoTheIndexesAndTrackTheHighestId() {
+        UserIndexes userIndexes = withoutSnapshots();
+        User first = user(1L);
+        User second = user(5L);
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.just(first, second));
+
+        userIndexes.start();
+
+        verify(userIndex).add(first);
+        verify(userIndex).add(second);
+        assertEquals(5L, userIndexes.highWaterMark());
+        assertFalse(userIndexes.loadReport().orElseThrow().fromSnapshot());
+    }
+
+    @Test
+    void shouldResumeLoadingAfterTheHighestIndexedId() {
+        UserIndexes userIndexes = withoutSnapshots();
+        userIndexes.added(user(7L));
+        when(userRepository.findByIdGreaterThan(7L)).thenReturn(Flux.just(user(8L)));
+
+        StepVerifier.create(userIndexes.load())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertEquals(8L, userIndexes.highWaterMark());
+    }
+
+    @Test
+    void shouldForwardUpdatesToTheIndexes() {
+        UserIndexes userIndexes = withoutSnapshots();
+        UserPatch patch = new UserPatch(null, null, new BigDecimal("2000000"));
+
+        userIndexes.updated(3L, patch);
+
+        verify(userIndex).update(3L, patch);
+    }
+
+    @Test
+    void shouldRestoreSnapshotAndReplayOnlyNewerUsers() {
+        UserIndexes userIndexes = withSnapshots();
+        ByteBuffer section = ByteBuffer.allocate(0);
+        when(userIndex.name()).thenReturn("test");
+        when(snapshotStore.load()).thenReturn(Optional.of(new UserIndexSnapshot(40L, 38L, 5L, Instant.now(), Map.of("test", section))));
+        when(userRepository.findMaxId()).thenReturn(Mono.just(41L));
+        when(userRepository.countByIdLessThanOrEqual(40L)).thenReturn(Mono.just(38L));
+        when(userRepository.sumVersionsByIdLessThanOrEqual(40L)).thenReturn(Mono.just(5L));
+        when(userRepository.findByIdGreaterThan(40L)).thenReturn(Flux.just(user(41L)));
+
+        userIndexes.start();
+
+        verify(userIndex).readFrom(section);
+        verify(userIndex).add(any());
+        assertEquals(41L, userIndexes.highWaterMark());
+        assertEquals(39L, userIndexes.userCount());
+        UserIndexes.LoadReport report = userIndexes.loadReport().orElseThrow();
+        assertTrue(report.fromSnapshot());
+        assertEquals(40L, report.restoredUpTo());
+        assertEquals(1L, report.loadedFromDatabase());
+    }
+
+    @Test
+    void shouldLoadEverythingWhenRowsBelowTheHighWaterMarkAreMissingFromTheSnapshot() {
+        UserIndexes userIndexes = withSnapshots();
+        when(userIndex.name()).thenReturn("test");
+        when(snapshotStore.load()).thenReturn(Optional.of(
+                new UserIndexSnapshot(40L, 38L, 0L, Instant.now(), Map.of("test", ByteBuffer.allocate(0)))));
+        when(userRepository.findMaxId()).thenReturn(Mono.just(40L));
+        when(userRepository.countByIdLessThanOrEqual(40L)).thenReturn(Mono.just(39L));
+        when(userRepository.sumVersionsByIdLessThanOrEqual(40L)).thenReturn(Mono.just(0L));
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.just(user(39L), user(40L)));
+
+        userIndexes.start();
+
+        verify(userIndex, never()).readFrom(any());
+        assertEquals(2L, userIndexes.userCount());
+        assertFalse(userIndexes.loadReport().orElseThrow().fromSnapshot());
+    }
+
+    @Test
+    void shouldLoadEverythingWhenAUserWasUpdatedAfterTheSnapshot() {
+        UserIndexes source = withoutSnapshots();
+        source.added(user(1L));
+        source.added(user(2L));
+        source.updated(2L, new UserPatch(null, null, new BigDecimal("2000000")));
+        when(userIndex.name()).thenReturn("test");
+        UserIndexSnapshot snapshot = source.snapshot();
+        assertEquals(1L, snapshot.versionSum());
+
+        UserIndexes userIndexes = withSnapshots();
+        when(snapshotStore.load()).thenReturn(Optional.of(snapshot));
+        when(userRepository.findMaxId()).thenReturn(Mono.just(2L));
+        when(userRepository.countByIdLessThanOrEqual(2L)).thenReturn(Mono.just(2L));
+        when(userRepository.sumVersionsByIdLessThanOrEqual(2L)).thenReturn(Mono.just(2L));
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.just(user(1L), user(2L)));
+
+        userIndexes.start();
+
+        verify(userIndex, never()).readFrom(any());
+        assertFalse(userIndexes.loadReport().orElseThrow().fromSnapshot());
+        assertEquals(2L, userIndexes.loadReport().orElseThrow().loadedFromDatabase());
+    }
+
+    @Test
+    void shouldLoadEverythingWhenTheTableWasRecreatedSinceTheSnapshot() {
+        UserIndexes userIndexes = withSnapshots();
+        when(userIndex.name()).thenReturn("test");
+        when(snapshotStore.load()).thenReturn(Optional.of(
+                new UserIndexSnapshot(40L, 38L, 0L, Instant.now(), Map.of("test", ByteBuffer.allocate(0)))));
+        when(userRepository.findMaxId()).thenReturn(Mono.just(0L));
+        when(userRepository.countByIdLessThanOrEqual(40L)).thenReturn(Mono.just(0L));
+        when(userRepository.sumVersionsByIdLessThanOrEqual(40L)).thenReturn(Mono.just(0L));
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.empty());
+
+        userIndexes.start();
+
+        verify(userIndex, never()).readFrom(any());
+        assertEquals(0L, userIndexes.highWaterMark());
+        assertFalse(userIndexes.loadReport().orElseThrow().fromSnapshot());
+    }
+
+    @Test
+    void shouldLoadEverythingWhenSnapshotLacksAnIndex() {
+        UserIndexes userIndexes = withSnapshots();
+        when(userIndex.name()).thenReturn("test");
+        when(snapshotStore.load()).thenReturn(Optional.of(new UserIndexSnapshot(40L, 38L, 0L, Instant.now(), Map.of())));
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.empty());
+
+        userIndexes.start();
+
+        verify(userIndex, never()).readFrom(any());
+        assertFalse(userIndexes.loadReport().orElseThrow().fromSnapshot());
+    }
+
+    @Test
+    void shouldStoreSnapshotOnStop() {
+        UserIndexes userIndexes = withSnapshots();
+        when(userIndex.name()).thenReturn("test");
+        when(snapshotStore.load()).thenReturn(Optional.empty());
+        when(userRepository.findByIdGreaterThan(0L)).thenReturn(Flux.just(user(3L)));
+        userIndexes.start();
+
+        userIndexes.stop();
+
+        verify(snapshotStore).save(any());
+        assertFalse(userIndexes.isRunning());
+    }
+
+    private UserIndexes withoutSnapshots() {
+        return new UserIndexes(userRepository, List.of(userIndex), Optional.empty(), Duration.ofSeconds(1));
+    }
+
+    private UserIndexes withSnapshots() {
+        return new UserIndexes(userRepository, List.of(userIndex), Optional.of(snapshotStore), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,116 @@
+package com.crediya.auth.application.index;
+
+import com.crediya.auth.application.ports.in.UserSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.crediya.auth.application.index.UserFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the UserSearchIndex.
+ */
+class UserSearchIndexTest {
+
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndex = new UserSearchIndex();
+        userSearchIndex.add(user(1L, "María José", "Pérez Gómez", "1.023.456.789"));
+        userSearchIndex.add(user(2L, "Juan", "Pérez", "80123456"));
+        userSearchIndex.add(user(3L, "Juana", "Ramírez", "52987654"));
+        userSearchIndex.add(user(4L, "Larry", "Ramirez", "123456789"));
+    }
+
+    @Test
+    void shouldMatchNamePrefixesIgnoringCaseAndAccents() {
+        assertEquals(List.of(1L, 2L), ids(userSearchIndex.search("PER", 10)));
+        assertEquals(List.of(1L), ids(userSearchIndex.search("jose", 10)));
+    }
+
+    @Test
+    void shouldListExactTokenMatchesBeforeLongerTokens() {
+        assertEquals(List.of(2L, 3L), ids(userSearchIndex.search("juan", 10)));
+    }
+
+    @Test
+    void shouldRequireEveryTermToMatch() {
+        assertEquals(List.of(3L), ids(userSearchIndex.search("jua ramir", 10)));
+        assertEquals(List.of(), ids(userSearchIndex.search("juan gomez", 10)));
+    }
+
+    @Test
+    void shouldMatchIdentityDocumentsWithOrWithoutSeparators() {
+        assertEquals(List.of(1L), ids(userSearchIndex.search("1.023.45", 10)));
+        assertEquals(List.of(1L), ids(userSearchIndex.search("102345", 10)));
+        assertEquals(List.of(4L), ids(userSearchIndex.search("1234", 10)));
+    }
+
+    @Test
+    void shouldReturnAtMostLimitResults() {
+        assertEquals(1, userSearchIndex.search("ram", 1).size());
+    }
+
+    @Test
+    void shouldIgnoreUsersThatAreAlreadyIndexed() {
+        userSearchIndex.add(user(2L, "Juan", "Pérez", "80123456"));
+
+        assertEquals(4, userSearchIndex.size());
+        assertEquals(List.of(2L), ids(userSearchIndex.search("juan per", 10)));
+    }
+
+    @Test
+    void shouldBoundTokensPerUser() {
+        String[] tokens = UserSearchIndex.tokensOf("A B C D E F", "G H I J K", "9".repeat(64));
+
+        assertEquals(UserSearchIndex.MAX_TOKENS_PER_USER, tokens.length);
+        for (String token : tokens) {
+            assertTrue(token.length() <= UserSearchIndex.MAX_TOKEN_LENGTH);
+        }
+    }
+
+    @Test
+    void shouldRestoreTheSameResultsFromItsSnapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        userSearchIndex.writeTo(new DataOutputStream(bytes));
+
+        UserSearchIndex restored = new UserSearchIndex();
+        restored.readFrom(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertEquals(4, restored.size());
+        assertEquals(userSearchIndex.search("per", 10), restored.search("per", 10));
+        assertEquals(userSearchIndex.search("1.023", 10), restored.search("1.023", 10));
+    }
+
+    @Test
+    void shouldAnswerPrefixQueriesQuicklyOnALargeIndex() {
+        for (long id = 10; id < 100_010; id++) {
+            userSearchIndex.add(user(id, "Nombre" + id, "Apellido" + (id % 997), String.valueOf(10_000_000 + id)));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            userSearchIndex.search("apellido12 nombre", 10);
+        }
+
+        long start = System.nanoTime();
+        List<UserSearchResult> results = List.of();
+        for (int i = 0; i < 1_000; i++) {
+            results = userSearchIndex.search("apellido12 nombre", 10);
+        }
+        long averageNanos = (System.nanoTime() - start) / 1_000;
+
+        assertEquals(10, results.size());
+        assertTrue(averageNanos < 1_000_000, () -> "Average search took " + averageNanos + " ns");
+    }
+
+    private List<Long> ids(List<UserSearchResult> results) {
+        return results.stream().map(UserSearchResult::id).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.ports.in.DuplicateCandidate;
+import com.crediya.auth.application.ports.in.DuplicateMatch;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the FindDuplicatesUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class FindDuplicatesUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private FindDuplicatesUseCase findDuplicatesUseCase;
+
+    @Test
+    void shouldReturnOnlySubmittedValuesThatAlreadyExist() {
+
+        Flux<DuplicateCandidate> candidates = Flux.just(
+                new DuplicateCandidate(" Larry.Ramirez11@Outlook.com", "123456789"),
+                new DuplicateCandidate("new.user@outlook.com", null),
+                new DuplicateCandidate(null, " 555555555 "));
+
+        when(userRepository.findExistingNormalizedEmails(anyCollection())).thenReturn(Flux.just("larry.ramirez11@outlook.com"));
+        when(userRepository.findExistingIdentityNumbers(anyCollection())).thenReturn(Flux.just("555555555"));
+
+        StepVerifier.create(findDuplicatesUseCase.findDuplicates(candidates).collectList())
+                .expectNextMatches(matches -> matches.size() == 2
+                        && matches.contains(new DuplicateMatch(DuplicateMatch.Field.EMAIL, " Larry.Ramirez11@Outlook.com"))
+                        && matches.contains(new DuplicateMatch(DuplicateMatch.Field.IDENTITY_NUMBER, "555555555")))
+                .verifyComplete();
+
+        verify(userRepository).findExistingNormalizedEmails(Set.of("larry.ramirez11@outlook.com", "new.user@outlook.com"));
+        verify(userRepository).findExistingIdentityNumbers(Set.of("123456789", "555555555"));
+    }
+
+    @Test
+    void shouldQueryOncePerChunkRegardlessOfInputSize() {
+
+        int candidates = FindDuplicatesUseCase.CHUNK_SIZE * 5 + 1;
+
+        when(userRepository.findExistingNormalizedEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            assertTrue(emails.size() <= FindDuplicatesUseCase.CHUNK_SIZE);
+            return Flux.empty();
+        });
+        when(userRepository.findExistingIdentityNumbers(anyCollection())).thenReturn(Flux.empty());
+
+        StepVerifier.create(findDuplicatesUseCase.findDuplicates(Flux.range(0, candidates)
+                        .map(i -> new DuplicateCandidate("user" + i + "@outlook.com", String.valueOf(i)))))
+                .verifyComplete();
+
+        verify(userRepository, times(6)).findExistingNormalizedEmails(anyCollection());
+        verify(userRepository, times(6)).findExistingIdentityNumbers(anyCollection());
+    }
+}
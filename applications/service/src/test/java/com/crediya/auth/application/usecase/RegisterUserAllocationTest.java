@@ -0,0 +1,228 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.application.index.UserIndexes;
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.domain.model.Role;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import com.crediya.auth.domain.ports.out.TransactionalBoundary;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Allocation regression tests for the RegisterUserUseCase.
+ * <p>
+ * Each path is driven N times after a warm-up and the bytes allocated per request are compared against the budget
+ * versioned in {@code allocation-budgets.properties}. Collaborators are plain fakes rather than Mockito mocks, whose
+ * invocation recording would dominate the measurement.
+ * <p>
+ * Budgets are recorded, not written by hand: with {@code -Dallocation.calibrate=true} every path stores its measured
+ * allocation plus {@value #HEADROOM_PERCENT}% in the budget file instead of being checked. A path without a recorded
+ * budget is skipped.
+ */
+class RegisterUserAllocationTest {
+
+    private static final int WARM_UP_REQUESTS = 5_000;
+    private static final int MEASURED_REQUESTS = 5_000;
+    private static final String TAKEN_EMAIL = "taken@outlook.com";
+    private static final int HEADROOM_PERCENT = 25;
+    private static final boolean CALIBRATE = Boolean.getBoolean("allocation.calibrate");
+    private static final Path BUDGETS_FILE = Path.of("src/test/resources/allocation-budgets.properties");
+
+    /**
+     * Runs the work as is, so the measurement covers the use case and not a transaction manager.
+     */
+    private static final TransactionalBoundary NO_TRANSACTION = new TransactionalBoundary() {
+        @Override
+        public <T> Mono<T> inTransaction(Mono<T> work) {
+            return work;
+        }
+    };
+
+    private static Properties budgets;
+
+    private RegisterUserUseCase registerUserUseCase;
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream input = RegisterUserAllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(input);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        RoleCatalog roleCatalog = new RoleCatalog(() -> Flux.just(new Role("APPLICANT", "Solicitante", null)));
+        roleCatalog.refresh().block();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        registerUserUseCase = new RegisterUserUseCase(userRepository, roleCatalog,
+                new UserIndexes(userRepository, List.of(), Optional.empty(), Duration.ofSeconds(1)), NO_TRANSACTION);
+    }
+
+    @Test
+    void successPathShouldStayWithinAllocationBudget() throws IOException {
+        assertWithinBudget("register-user.use-case.success",
+                i -> registerUserUseCase.registerUser(command("larry" + (i & 1023) + "@outlook.com", "APPLICANT")).block());
+    }
+
+    @Test
+    void conflictPathShouldStayWithinAllocationBudget() throws IOException {
+        assertWithinBudget("register-user.use-case.conflict",
+                i -> registerUserUseCase.registerUser(command(TAKEN_EMAIL, "APPLICANT")).onErrorResume(error -> Mono.empty()).block());
+    }
+
+    @Test
+    void invalidRolePathShouldStayWithinAllocationBudget() throws IOException {
+        assertWithinBudget("register-user.use-case.invalid-role",
+                i -> registerUserUseCase.registerUser(command("larry@outlook.com", "UNKNOWN")).onErrorResume(error -> Mono.empty()).block());
+    }
+
+    /**
+     * Runs the requests with the use case logger switched off, so the per-request warnings of the error paths are not
+     * part of the measurement; logging is restored afterwards for the other tests.
+     */
+    private void assertWithinBudget(String path, IntConsumer request) throws IOException {
+        Logger useCaseLogger = (Logger) LoggerFactory.getLogger(RegisterUserUseCase.class);
+        Level level = useCaseLogger.getLevel();
+        useCaseLogger.setLevel(Level.OFF);
+        long perRequest;
+        try {
+            for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+                request.accept(i);
+            }
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                request.accept(i);
+            }
+            perRequest = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_REQUESTS;
+        } finally {
+            useCaseLogger.setLevel(level);
+        }
+
+        if (CALIBRATE) {
+            recordBudget(path, perRequest + perRequest * HEADROOM_PERCENT / 100);
+            return;
+        }
+        String recorded = budgets.getProperty(path, "");
+        assumeFalse(recorded.isBlank(), () -> path + " has no recorded budget, run with -Dallocation.calibrate=true");
+        long budget = Long.parseLong(recorded);
+        assertTrue(perRequest <= budget,
+                () -> path + " allocated " + perRequest + " bytes/request, over its budget of " + budget);
+    }
+
+    /**
+     * Replaces the budget of the path in the versioned file, keeping its comments and the other paths.
+     */
+    private static void recordBudget(String path, long budget) throws IOException {
+        List<String> lines = new ArrayList<>(Files.readAllLines(BUDGETS_FILE));
+        lines.removeIf(line -> line.startsWith(path + "="));
+        lines.add(path + "=" + budget);
+        Files.write(BUDGETS_FILE, lines);
+    }
+
+    private RegisterUserCommand command(String email, String idRole) {
+        return new RegisterUserCommand(
+                "Larry", "Ramirez", email, "123456789",
+                "3001234567",
+                LocalDate.of(1990, 5, 15),
+                "123 Main St",
+                idRole, new BigDecimal("5000000")
+        );
+    }
+
+    /**
+     * A fake repository that answers from constants so it adds as little allocation as possible.
+     */
+    private static final class InMemoryUserRepository implements UserRepository {
+
+        private static final Mono<Boolean> EXISTS = Mono.just(true);
+        private static final Mono<Boolean> DOES_NOT_EXIST = Mono.just(false);
+        private static final Mono<User> SAVED = Mono.just(new User(1L, "Larry", "Ramirez", "larry@outlook.com", "123456789",
+                "3001234567", LocalDate.of(1990, 5, 15), "123 Main St", "APPLICANT", new BigDecimal("5000000"), 0L));
+
+        @Override
+        public Mono<Boolean> existsByEmail(String email) {
+            return TAKEN_EMAIL.equals(email) ? EXISTS : DOES_NOT_EXIST;
+        }
+
+        @Override
+        public Mono<User> save(User user) {
+            return SAVED;
+        }
+
+        @Override
+        public Mono<Long> saveAll(List<User> users) {
+            return Mono.just((long) users.size());
+        }
+
+        @Override
+        public Mono<Boolean> updateIfVersionMatches(Long id, long expectedVersion, UserPatch patch) {
+            return EXISTS;
+        }
+
+        @Override
+        public Mono<Boolean> existsById(Long id) {
+            return EXISTS;
+        }
+
+        @Override
+        public Flux<User> findByIdGreaterThan(long id) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<Long> countByIdLessThanOrEqual(long id) {
+            return Mono.just(0L);
+        }
+
+        @Override
+        public Mono<Long> sumVersionsByIdLessThanOrEqual(long id) {
+            return Mono.just(0L);
+        }
+
+        @Override
+        public Mono<Long> findMaxId() {
+            return Mono.just(0L);
+        }
+
+        @Override
+        public Flux<String> findExistingNormalizedEmails(Collection<String> normalizedEmails) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<String> findExistingIdentityNumbers(Collection<String> identityNumbers) {
+            return Flux.empty();
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.crediya.auth.application.usecase;
 
+import com.crediya.auth.application.catalog.RoleCatalog;
+import com.crediya.auth.application.exceptions.DeadlineExceededException;
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.InvalidRoleException;
+import com.crediya.auth.application.index.UserIndexes;
 import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RequestDeadline;
 import com.crediya.auth.application.usecase.RegisterUserUseCase;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.TransactionalBoundary;
 import com.crediya.auth.domain.ports.out.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +20,12 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -31,6 +41,15 @@ public class RegisterUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RoleCatalog roleCatalog;
+
+    @Mock
+    private UserIndexes userIndexes;
+
+    @Mock
+    private TransactionalBoundary transactionalBoundary;
+
     @InjectMocks
     private RegisterUserUseCase registerUserUseCase;
 
@@ -46,8 +65,10 @@ public class RegisterUserUseCaseTest {
         );
         User userToSave = command.toDomainUser();
 
+        when(roleCatalog.contains(command.idRole())).thenReturn(true);
         when(userRepository.existsByEmail(command.email())).thenReturn(Mono.just(false));
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(userToSave));
+        when(transactionalBoundary.inTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         Mono<User> result = registerUserUseCase.registerUser(command);
 
@@ -67,6 +88,8 @@ public class RegisterUserUseCaseTest {
                 .verifyComplete();
 
         verify(userRepository).save(any(User.class));
+        verify(transactionalBoundary).inTransaction(any());
+        verify(userIndexes).added(userToSave);
     }
 
     @Test
@@ -80,6 +103,7 @@ public class RegisterUserUseCaseTest {
                 "ROLE_USER", new BigDecimal("5000000")
         );
 
+        when(roleCatalog.contains(command.idRole())).thenReturn(true);
         when(userRepository.existsByEmail(command.email())).thenReturn(Mono.just(true));
 
         Mono<User> result = registerUserUseCase.registerUser(command);
@@ -90,5 +114,107 @@ public class RegisterUserUseCaseTest {
                 .verify();
 
         verify(userRepository, never()).save(any(User.class));
+        verify(transactionalBoundary, never()).inTransaction(any());
+    }
+
+    @Test
+    void shouldNotIndexUserWhenInsertTransactionFails() {
+
+        var command = new RegisterUserCommand(
+                "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789",
+                "3001234567",
+                LocalDate.of(1990, 5, 15),
+                "123 Main St",
+                "ROLE_USER", new BigDecimal("5000000")
+        );
+
+        when(roleCatalog.contains(command.idRole())).thenReturn(true);
+        when(userRepository.existsByEmail(command.email())).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenReturn(Mono.just(command.toDomainUser()));
+        when(transactionalBoundary.inTransaction(any()))
+                .thenReturn(Mono.error(new IllegalStateException("Commit failed")));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(userIndexes, never()).added(any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenRoleDoesNotExist() {
+
+        var command = new RegisterUserCommand(
+                "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789",
+                "3001234567",
+                LocalDate.of(1990, 5, 15),
+                "123 Main St",
+                "ROLE_UNKNOWN", new BigDecimal("5000000")
+        );
+
+        when(roleCatalog.contains(command.idRole())).thenReturn(false);
+
+        Mono<User> result = registerUserUseCase.registerUser(command);
+
+        StepVerifier.create(result)
+                .expectError(InvalidRoleException.class)
+                .verify();
+
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void shouldFailFastAndCancelQueryWhenExistenceCheckExhaustsDeadline() {
+
+        var command = new RegisterUserCommand(
+                "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789",
+                "3001234567",
+                LocalDate.of(1990, 5, 15),
+                "123 Main St",
+                "ROLE_USER", new BigDecimal("5000000")
+        );
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        when(roleCatalog.contains(command.idRole())).thenReturn(true);
+        when(userRepository.existsByEmail(command.email()))
+                .thenReturn(Mono.<Boolean>never().doOnCancel(() -> cancelled.set(true)));
+
+        Mono<User> result = registerUserUseCase.registerUser(command)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, RequestDeadline.after(Duration.ofMillis(50))));
+
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error instanceof DeadlineExceededException deadlineError
+                        && deadlineError.getStage().equals("exists-by-email"))
+                .verify(Duration.ofSeconds(1));
+
+        assertTrue(cancelled.get());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void shouldNotStartStageWhenDeadlineHasAlreadyPassed() {
+
+        var command = new RegisterUserCommand(
+                "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789",
+                "3001234567",
+                LocalDate.of(1990, 5, 15),
+                "123 Main St",
+                "ROLE_USER", new BigDecimal("5000000")
+        );
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        when(roleCatalog.contains(command.idRole())).thenReturn(true);
+        when(userRepository.existsByEmail(command.email()))
+                .thenReturn(Mono.just(false).doOnSubscribe(subscription -> subscribed.set(true)));
+
+        Mono<User> result = registerUserUseCase.registerUser(command)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, RequestDeadline.after(Duration.ZERO)));
+
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+
+        assertFalse(subscribed.get());
     }
 }
@@ -0,0 +1,93 @@
+package com.crediya.auth.application.usecase;
+
+import com.crediya.auth.application.exceptions.InvalidUpdateException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.exceptions.UserVersionConflictException;
+import com.crediya.auth.application.index.UserIndexes;
+import com.crediya.auth.application.ports.in.UpdateUserCommand;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the UpdateUserUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class UpdateUserUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIndexes userIndexes;
+
+    @InjectMocks
+    private UpdateUserUseCase updateUserUseCase;
+
+    @Test
+    void shouldReturnNextVersionWhenUpdateIsApplied() {
+
+        var command = new UpdateUserCommand(7L, 3L, "3009876543", null, null);
+
+        when(userRepository.updateIfVersionMatches(eq(7L), eq(3L), any())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(updateUserUseCase.updateUser(command))
+                .expectNext(4L)
+                .verifyComplete();
+
+        verify(userRepository, never()).existsById(any());
+        verify(userIndexes).updated(eq(7L), any());
+    }
+
+    @Test
+    void shouldReturnVersionConflictWhenUserWasModifiedConcurrently() {
+
+        var command = new UpdateUserCommand(7L, 3L, null, "456 Oak Ave", null);
+
+        when(userRepository.updateIfVersionMatches(eq(7L), eq(3L), any())).thenReturn(Mono.just(false));
+        when(userRepository.existsById(7L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(updateUserUseCase.updateUser(command))
+                .expectError(UserVersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenUserDoesNotExist() {
+
+        var command = new UpdateUserCommand(7L, 0L, null, null, new BigDecimal("6000000"));
+
+        when(userRepository.updateIfVersionMatches(eq(7L), eq(0L), any())).thenReturn(Mono.just(false));
+        when(userRepository.existsById(7L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(updateUserUseCase.updateUser(command))
+                .expectError(UserNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldRejectPatchWithoutFieldsBeforeTouchingTheRepository() {
+
+        var command = new UpdateUserCommand(7L, 0L, null, null, null);
+
+        StepVerifier.create(updateUserUseCase.updateUser(command))
+                .expectError(InvalidUpdateException.class)
+                .verify();
+
+        verify(userRepository, never()).updateIfVersionMatches(any(), anyLong(), any());
+    }
+}
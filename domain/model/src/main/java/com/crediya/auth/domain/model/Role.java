@@ -0,0 +1,35 @@
+package com.crediya.auth.domain.model;
+
+public class Role {
+
+    private final String id;
+    private final String name;
+    private final String description;
+
+
+    public Role(String id, String name, String description) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Role id cannot be null or empty.");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Role name cannot be null or empty.");
+        }
+
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
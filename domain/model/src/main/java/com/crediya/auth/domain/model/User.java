@@ -2,6 +2,7 @@ package com.crediya.auth.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -17,13 +18,14 @@ public class User {
     private final String firstName;
     private final String lastName;
     private final String email;
+    private final String normalizedEmail;
     private final String identityNumber;
     private final String phoneNumber;
     private final LocalDate birthDate;
     private final String address;
     private final String idRole;
     private final BigDecimal baseSalary;
-
+    private final Long version;
 
     public User(
             Long id,
@@ -35,7 +37,8 @@ public class User {
             LocalDate birthDate,
             String address,
             String idRole,
-            BigDecimal baseSalary
+            BigDecimal baseSalary,
+            Long version
             ) {
 
         validateFieldNotNullOrEmpty(firstName, "First name cannot be null or empty.");
@@ -52,12 +55,14 @@ public class User {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
+        this.normalizedEmail = normalizeEmail(email);
         this.identityNumber = identityNumber;
         this.phoneNumber = phoneNumber;
         this.birthDate = birthDate;
         this.address = address;
         this.idRole = idRole;
         this.baseSalary = baseSalary;
+        this.version = version;
     }
 
     public static User newUser(
@@ -80,10 +85,22 @@ public class User {
                 birthDate,
                 address,
                 idRole,
-                baseSalary);
+                baseSalary,
+                null);
+    }
+
+    /**
+     * Normalizes an email so that addresses differing only in case or surrounding whitespace compare as equal.
+     * This is the single place where the normalization rule is defined; persistence and lookups rely on it.
+     *
+     * @param email The email as provided by the user.
+     * @return The normalized email, or null if the given email is null.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
-    private void validateFieldNotNullOrEmpty(String value, String errorMessage) {
+    static void validateFieldNotNullOrEmpty(String value, String errorMessage) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException(errorMessage);
         }
@@ -95,7 +112,7 @@ public class User {
         }
     }
 
-    private void validateSalary(BigDecimal salary) {
+    static void validateSalary(BigDecimal salary) {
         Objects.requireNonNull(salary, "Base salary cannot be null.");
         if (salary.compareTo(MINIMUM_SALARY) < 0 || salary.compareTo(MAXIMUM_SALARY) > 0) {
             throw new IllegalArgumentException("Base salary must be between " + MINIMUM_SALARY + " and " + MAXIMUM_SALARY + ".");
@@ -119,6 +136,10 @@ public class User {
         return email;
     }
 
+    public String getNormalizedEmail() {
+        return normalizedEmail;
+    }
+
     public String getIdentityNumber() {
         return identityNumber;
     }
@@ -142,4 +163,11 @@ public class User {
     public BigDecimal getBaseSalary() {
         return baseSalary;
     }
+
+    /**
+     * @return The optimistic-locking version of the persisted user, or null for a user that was not saved yet.
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
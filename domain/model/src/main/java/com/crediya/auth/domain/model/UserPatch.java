@@ -0,0 +1,47 @@
+package com.crediya.auth.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A partial update of the mutable fields of a {@link User}.
+ * <p>
+ * A null field means "not supplied" and is left untouched; supplied fields are validated with the same rules as
+ * {@link User}.
+ */
+public class UserPatch {
+
+    private final String phoneNumber;
+    private final String address;
+    private final BigDecimal baseSalary;
+
+    public UserPatch(String phoneNumber, String address, BigDecimal baseSalary) {
+        if (phoneNumber == null && address == null && baseSalary == null) {
+            throw new IllegalArgumentException("At least one of phone number, address or base salary must be supplied.");
+        }
+        if (phoneNumber != null) {
+            User.validateFieldNotNullOrEmpty(phoneNumber, "Phone number cannot be empty.");
+        }
+        if (address != null) {
+            User.validateFieldNotNullOrEmpty(address, "Address cannot be null or empty.");
+        }
+        if (baseSalary != null) {
+            User.validateSalary(baseSalary);
+        }
+
+        this.phoneNumber = phoneNumber;
+        this.address = address;
+        this.baseSalary = baseSalary;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public BigDecimal getBaseSalary() {
+        return baseSalary;
+    }
+}
@@ -0,0 +1,17 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.Role;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the outbound contract for reading the role catalog.
+ */
+public interface RoleRepository {
+
+    /**
+     * Streams every role defined in the system.
+     *
+     * @return A reactive stream emitting all roles.
+     */
+    Flux<Role> findAll();
+}
@@ -0,0 +1,20 @@
+package com.crediya.auth.domain.ports.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the outbound contract for running persistence work in a transaction, so use cases can scope transactions
+ * explicitly to their writes without depending on a transaction framework.
+ */
+public interface TransactionalBoundary {
+
+    /**
+     * Runs the given work in a new transaction, which is committed when the work completes and rolled back when it
+     * fails or is cancelled. Only the persistence calls made inside the work are part of the transaction.
+     *
+     * @param work The persistence work to run.
+     * @param <T>  The type of the result.
+     * @return A reactive stream emitting the result of the work once the transaction is committed.
+     */
+    <T> Mono<T> inTransaction(Mono<T> work);
+}
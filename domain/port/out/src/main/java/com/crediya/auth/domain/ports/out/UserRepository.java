@@ -0,0 +1,108 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Defines the outbound contract for persisting and querying users.
+ */
+public interface UserRepository {
+
+    /**
+     * Checks if a user with the given email already exists.
+     *
+     * @param email The email to check.
+     * @return A reactive stream emitting true if the email exists, false otherwise.
+     */
+    Mono<Boolean> existsByEmail(String email);
+
+    /**
+     * Persists a new User object.
+     *
+     * @param user The domain model object to save.
+     * @return A reactive stream emitting the saved User, including its generated ID.
+     */
+    Mono<User> save(User user);
+
+    /**
+     * Inserts several new users in a single batched statement. The batch is atomic: either every user is
+     * inserted or none is.
+     *
+     * @param users The users to insert.
+     * @return A reactive stream emitting the number of inserted rows.
+     */
+    Mono<Long> saveAll(List<User> users);
+
+    /**
+     * Applies a partial update to a user, writing only the supplied columns and only if the stored version still
+     * equals the expected one. The version is incremented by the same statement.
+     *
+     * @param id              The ID of the user to update.
+     * @param expectedVersion The version the caller based its changes on.
+     * @param patch           The fields to change.
+     * @return A reactive stream emitting true if the user was updated, false if no user with that ID and version exists.
+     */
+    Mono<Boolean> updateIfVersionMatches(Long id, long expectedVersion, UserPatch patch);
+
+    /**
+     * Checks if a user with the given ID exists.
+     *
+     * @param id The ID to check.
+     * @return A reactive stream emitting true if the user exists, false otherwise.
+     */
+    Mono<Boolean> existsById(Long id);
+
+    /**
+     * Streams the users whose ID is greater than the given one, in ascending ID order. Rows are emitted as they are
+     * read, so the whole table never has to fit in memory; an ID of 0 streams every user.
+     *
+     * @param id The exclusive lower bound of the IDs to stream.
+     * @return A reactive stream of users ordered by ID.
+     */
+    Flux<User> findByIdGreaterThan(long id);
+
+    /**
+     * Counts the users whose ID is less than or equal to the given one.
+     *
+     * @param id The inclusive upper bound of the IDs to count.
+     * @return A reactive stream emitting the number of matching users.
+     */
+    Mono<Long> countByIdLessThanOrEqual(long id);
+
+    /**
+     * Adds up the versions of the users whose ID is less than or equal to the given one. Every update increments a
+     * version, so the sum changes whenever one of those users is updated.
+     *
+     * @param id The inclusive upper bound of the IDs to include.
+     * @return A reactive stream emitting the sum of their versions, or 0 if there are none.
+     */
+    Mono<Long> sumVersionsByIdLessThanOrEqual(long id);
+
+    /**
+     * Finds the highest user ID in use.
+     *
+     * @return A reactive stream emitting the highest ID, or 0 if there are no users.
+     */
+    Mono<Long> findMaxId();
+
+    /**
+     * Finds which of the given normalized emails belong to a stored user, in a single query.
+     *
+     * @param normalizedEmails The emails to look up, already normalized with {@code User.normalizeEmail}.
+     * @return A reactive stream of the normalized emails that exist, in no particular order.
+     */
+    Flux<String> findExistingNormalizedEmails(Collection<String> normalizedEmails);
+
+    /**
+     * Finds which of the given identity documents belong to a stored user, in a single query.
+     *
+     * @param identityNumbers The identity documents to look up, compared exactly.
+     * @return A reactive stream of the identity documents that exist, in no particular order.
+     */
+    Flux<String> findExistingIdentityNumbers(Collection<String> identityNumbers);
+}
@@ -0,0 +1,33 @@
+package com.crediya.auth.infrastructure.driven.persistence;
+
+import com.crediya.auth.domain.model.Role;
+import com.crediya.auth.domain.ports.out.RoleRepository;
+import com.crediya.auth.infrastructure.driven.persistence.mapper.RoleMapper;
+import com.crediya.auth.infrastructure.driven.persistence.repository.RoleDataRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+
+/**
+ * This is the driven adapter that implements the RoleRepository outbound port.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoleRepositoryAdapter implements RoleRepository {
+
+    private final RoleDataRepository roleDataRepository;
+    private final RoleMapper roleMapper;
+
+    /**
+     * Streams every role stored in the 'rol' table.
+     *
+     * @return A reactive stream emitting all roles.
+     */
+    @Override
+    public Flux<Role> findAll() {
+        return roleDataRepository
+                .findAll()
+                .map(roleMapper::toDomain);
+    }
+}
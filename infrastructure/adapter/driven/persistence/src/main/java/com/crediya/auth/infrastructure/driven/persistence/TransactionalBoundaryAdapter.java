@@ -0,0 +1,33 @@
+package com.crediya.auth.infrastructure.driven.persistence;
+
+import com.crediya.auth.domain.ports.out.TransactionalBoundary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * This is the driven adapter that implements the TransactionalBoundary outbound port with the R2DBC
+ * {@link TransactionalOperator}. Because the operator is applied directly to the reactive pipeline, no proxy or
+ * interceptor is involved and the connection is bound only while the wrapped work runs.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionalBoundaryAdapter implements TransactionalBoundary {
+
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Runs the given work in an R2DBC transaction. The result is emitted only after the commit, so callers can
+     * safely act on it.
+     *
+     * @param work The persistence work to run.
+     * @param <T>  The type of the result.
+     * @return A reactive stream emitting the result of the work once the transaction is committed.
+     */
+    @Override
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactionalOperator.transactional(work);
+    }
+}
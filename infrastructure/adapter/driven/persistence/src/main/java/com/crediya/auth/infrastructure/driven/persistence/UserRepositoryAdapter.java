@@ -3,34 +3,70 @@ package com.crediya.auth.infrastructure.driven.persistence;
 import com.crediya.auth.infrastructure.driven.persistence.entity.UserData;
 import com.crediya.auth.infrastructure.driven.persistence.mapper.UserMapper;
 import com.crediya.auth.infrastructure.driven.persistence.repository.UserDataRepository;
+import com.crediya.auth.infrastructure.driven.persistence.support.SingleFlight;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
 import com.crediya.auth.domain.ports.out.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
 
 /**
  * This is the driven adapter that implements the UserRepository outbound port.
+ * <p>
+ * Concurrent lookups for the same email share a single query through {@link SingleFlight}. Partial updates are
+ * written with a single version-guarded UPDATE that touches only the supplied columns.
  *
  * @Repository marks this as a Spring component for persistence.
  */
 @Repository
 @RequiredArgsConstructor
-public class UserRepositoryAdapter implements UserRepository {
+public class UserRepositoryAdapter implements UserRepository, MeterBinder {
+
+    private static final String INSERT_USER = """
+            INSERT INTO usuario (nombre, apellido, email, email_normalizado, documento_identidad, telefono,
+                                 fecha_nacimiento, direccion, id_rol, salario_base)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10)""";
+    private static final String SELECT_EXISTING_EMAILS =
+            "SELECT email_normalizado FROM usuario WHERE email_normalizado IN (:values)";
+    private static final String SELECT_EXISTING_IDENTITY_NUMBERS =
+            "SELECT documento_identidad FROM usuario WHERE documento_identidad IN (:values)";
 
     private final UserDataRepository userDataRepository;
     private final UserMapper userMapper;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    private final SingleFlight<String, Boolean> existsByEmailFlights = new SingleFlight<>();
 
     /**
-     * Checks if a user with the given email already exists.
+     * Checks if a user with the given email already exists, ignoring case and surrounding whitespace.
+     * Concurrent calls for the same normalized email are served by a single query.
      *
      * @param email The email to check.
      * @return A reactive stream emitting true if the email exists, false otherwise.
      */
     @Override
     public Mono<Boolean> existsByEmail(String email) {
-        return this.userDataRepository.existsByEmail(email);
+        return existsByEmailFlights.execute(User.normalizeEmail(email), userDataRepository::existsByNormalizedEmail);
     }
 
     /**
@@ -48,4 +84,192 @@ public class UserRepositoryAdapter implements UserRepository {
                 .save(userDataToSave)
                 .map(userMapper::toDomain);
     }
+
+    /**
+     * Inserts several new users through a single multi-binding statement executed in one transaction.
+     *
+     * @param users The domain model objects to insert.
+     * @return A reactive stream emitting the number of inserted rows.
+     */
+    @Override
+    public Mono<Long> saveAll(List<User> users) {
+        if (users.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        Flux<Long> insert = databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_USER);
+            for (int i = 0; i < users.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bindUser(statement, userMapper.toData(users.get(i)));
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        });
+
+        return transactionalOperator.transactional(insert.reduce(0L, Long::sum));
+    }
+
+    /**
+     * Updates only the supplied columns of a user, guarded by its version, and increments the version in the same
+     * statement. No row is read beforehand: a stale version simply matches no row.
+     *
+     * @param id              The ID of the user to update.
+     * @param expectedVersion The version the caller based its changes on.
+     * @param patch           The fields to change.
+     * @return A reactive stream emitting true if the user was updated, false otherwise.
+     */
+    @Override
+    public Mono<Boolean> updateIfVersionMatches(Long id, long expectedVersion, UserPatch patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (patch.getPhoneNumber() != null) {
+            changes.put("telefono", patch.getPhoneNumber());
+        }
+        if (patch.getAddress() != null) {
+            changes.put("direccion", patch.getAddress());
+        }
+        if (patch.getBaseSalary() != null) {
+            changes.put("salario_base", patch.getBaseSalary());
+        }
+
+        StringJoiner assignments = new StringJoiner(", ", "UPDATE usuario SET ", ", version = version + 1");
+        changes.keySet().forEach(column -> assignments.add(column + " = :" + column));
+        String sql = assignments + " WHERE id_usuario = :id AND version = :version";
+
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql(sql)
+                .bind("id", id)
+                .bind("version", expectedVersion);
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            update = update.bind(change.getKey(), change.getValue());
+        }
+        return update.fetch().rowsUpdated().map(rows -> rows > 0);
+    }
+
+    /**
+     * Checks if a user with the given ID exists.
+     *
+     * @param id The ID to check.
+     * @return A reactive stream emitting true if the user exists, false otherwise.
+     */
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return userDataRepository.existsById(id);
+    }
+
+    /**
+     * Streams the users with an ID greater than the given one, in ascending ID order.
+     *
+     * @param id The exclusive lower bound of the IDs to stream.
+     * @return A reactive stream of users ordered by ID.
+     */
+    @Override
+    public Flux<User> findByIdGreaterThan(long id) {
+        return userDataRepository.findByIdGreaterThanOrderByIdAsc(id)
+                .map(userMapper::toDomain);
+    }
+
+    /**
+     * Counts the users with an ID less than or equal to the given one.
+     *
+     * @param id The inclusive upper bound of the IDs to count.
+     * @return A reactive stream emitting the number of matching users.
+     */
+    @Override
+    public Mono<Long> countByIdLessThanOrEqual(long id) {
+        return userDataRepository.countByIdLessThanEqual(id);
+    }
+
+    /**
+     * Adds up the versions of the users with an ID less than or equal to the given one.
+     *
+     * @param id The inclusive upper bound of the IDs to include.
+     * @return A reactive stream emitting the sum of their versions.
+     */
+    @Override
+    public Mono<Long> sumVersionsByIdLessThanOrEqual(long id) {
+        return userDataRepository.sumVersionsByIdLessThanEqual(id);
+    }
+
+    /**
+     * Finds the highest user ID in use.
+     *
+     * @return A reactive stream emitting the highest ID, or 0 if there are no users.
+     */
+    @Override
+    public Mono<Long> findMaxId() {
+        return userDataRepository.findMaxId();
+    }
+
+    /**
+     * Finds which of the given normalized emails exist with one {@code IN} query over the unique index on
+     * 'email_normalizado'.
+     *
+     * @param normalizedEmails The normalized emails to look up.
+     * @return A reactive stream of the normalized emails that exist.
+     */
+    @Override
+    public Flux<String> findExistingNormalizedEmails(Collection<String> normalizedEmails) {
+        return findExisting(SELECT_EXISTING_EMAILS, normalizedEmails);
+    }
+
+    /**
+     * Finds which of the given identity documents exist with one {@code IN} query over the unique constraint on
+     * 'documento_identidad'.
+     *
+     * @param identityNumbers The identity documents to look up.
+     * @return A reactive stream of the identity documents that exist.
+     */
+    @Override
+    public Flux<String> findExistingIdentityNumbers(Collection<String> identityNumbers) {
+        return findExisting(SELECT_EXISTING_IDENTITY_NUMBERS, identityNumbers);
+    }
+
+    /**
+     * Exposes the single-flight counters of this adapter as metrics.
+     *
+     * @param registry The registry to bind the meters to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("crediya.persistence.single-flight.coalesced", existsByEmailFlights, SingleFlight::coalescedCount)
+                .description("Calls that joined an in-flight query instead of issuing their own")
+                .tag("query", "existsByEmail")
+                .register(registry);
+        Gauge.builder("crediya.persistence.single-flight.in-flight", existsByEmailFlights, SingleFlight::inFlightCount)
+                .description("Keys that currently have a query in flight")
+                .tag("query", "existsByEmail")
+                .register(registry);
+    }
+
+    private Flux<String> findExisting(String sql, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(sql)
+                .bind("values", List.copyOf(values))
+                .map(row -> row.get(0, String.class))
+                .all();
+    }
+
+    private void bindUser(Statement statement, UserData user) {
+        bindNullable(statement, 0, user.getFirstName(), String.class);
+        bindNullable(statement, 1, user.getLastName(), String.class);
+        bindNullable(statement, 2, user.getEmail(), String.class);
+        bindNullable(statement, 3, user.getNormalizedEmail(), String.class);
+        bindNullable(statement, 4, user.getIdentityNumber(), String.class);
+        bindNullable(statement, 5, user.getPhoneNumber(), String.class);
+        bindNullable(statement, 6, user.getBirthDate(), LocalDate.class);
+        bindNullable(statement, 7, user.getAddress(), String.class);
+        bindNullable(statement, 8, user.getIdRole(), String.class);
+        bindNullable(statement, 9, user.getBaseSalary(), BigDecimal.class);
+    }
+
+    private void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.crediya.auth.infrastructure.driven.persistence.entity;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Represents the 'rol' table in the database.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("rol")
+public class RoleData {
+
+    @Id
+    @Column("id_rol")
+    private String id;
+
+    @Column("nombre")
+    private String name;
+
+    @Column("descripcion")
+    private String description;
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -35,6 +36,9 @@ public class UserData {
     @Column("email")
     private String email;
 
+    @Column("email_normalizado")
+    private String normalizedEmail;
+
     @Column("documento_identidad")
     private String identityNumber;
 
@@ -52,4 +56,8 @@ public class UserData {
 
     @Column("salario_base")
     private BigDecimal baseSalary;
+
+    @Version
+    @Column("version")
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.crediya.auth.infrastructure.driven.persistence.mapper;
+
+import com.crediya.auth.domain.model.Role;
+import com.crediya.auth.infrastructure.driven.persistence.entity.RoleData;
+import org.mapstruct.Mapper;
+
+/**
+ * A MapStruct mapper interface for converting between the Role domain model and the RoleData persistence entity.
+ */
+@Mapper(componentModel = "spring")
+public interface RoleMapper {
+
+    /**
+     * Maps a RoleData entity to a Role domain model.
+     *
+     * @param roleData The persistence entity.
+     * @return The corresponding Role domain model.
+     */
+    Role toDomain(RoleData roleData);
+}
@@ -0,0 +1,188 @@
+package com.crediya.auth.infrastructure.driven.persistence.migration;
+
+import com.crediya.auth.domain.model.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Fills 'usuario.email_normalizado' for rows created before the column existed, then makes the column NOT NULL.
+ * <p>
+ * The backfill runs at startup, before the web server accepts requests, because the email lookups only read the
+ * normalized column: a row that is not normalized yet would be invisible to them. Rows are read in keyset-paginated
+ * batches ordered by 'id_usuario', so no cursor is held open while the batch is updated and memory use is bounded by
+ * the batch size regardless of the table size.
+ * <p>
+ * Rows whose normalized email collides with another user are left untouched for manual review: they are logged as
+ * errors, listed at the end of the run and counted by the 'crediya.persistence.email-backfill.collisions' gauge. The
+ * lookups still reject their email, since the other user holds it in the normalized column. The NOT NULL constraint
+ * is only added once no such row is left.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailNormalizationBackfill implements SmartLifecycle, MeterBinder {
+
+    /**
+     * Runs before the web server lifecycle so no email is looked up before every row is normalized.
+     */
+    private static final int PHASE = 0;
+
+    private static final String SELECT_PENDING = """
+            SELECT id_usuario, email FROM usuario
+            WHERE email_normalizado IS NULL AND id_usuario > :lastId
+            ORDER BY id_usuario
+            LIMIT :limit""";
+    private static final String UPDATE_NORMALIZED = "UPDATE usuario SET email_normalizado = :normalizedEmail WHERE id_usuario = :id";
+    private static final String SELECT_NULLABLE = """
+            SELECT is_nullable FROM information_schema.columns
+            WHERE LOWER(table_schema) = LOWER(CURRENT_SCHEMA)
+              AND LOWER(table_name) = 'usuario' AND LOWER(column_name) = 'email_normalizado'""";
+    private static final String REQUIRE_NORMALIZED = "ALTER TABLE usuario ALTER COLUMN email_normalizado SET NOT NULL";
+
+    private final DatabaseClient databaseClient;
+    private final Set<Long> collidingIds = new ConcurrentSkipListSet<>();
+
+    private volatile boolean running;
+
+    @Value("${crediya.persistence.email-backfill.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${crediya.persistence.email-backfill.timeout:PT30M}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Normalizes every pending row, then requires the normalized email from then on unless a collision is left.
+     *
+     * @return A reactive stream emitting the number of updated rows.
+     */
+    public Mono<Long> migrate() {
+        return run().flatMap(updated -> {
+            if (!collidingIds.isEmpty()) {
+                log.error("'usuario.email_normalizado' stays nullable until the colliding users are resolved.");
+                return Mono.just(updated);
+            }
+            return requireNormalizedEmail().thenReturn(updated);
+        });
+    }
+
+    /**
+     * Normalizes the email of every row that does not have a normalized email yet.
+     *
+     * @return A reactive stream emitting the total number of updated rows.
+     */
+    public Mono<Long> run() {
+        collidingIds.clear();
+        return fetchBatch(0L)
+                .expand(batch -> batch.size() < batchSize
+                        ? Mono.empty()
+                        : fetchBatch(batch.get(batch.size() - 1).id()))
+                .concatMap(this::normalizeBatch)
+                .reduce(0L, Long::sum)
+                .doOnNext(updated -> {
+                    if (!collidingIds.isEmpty()) {
+                        log.error("{} users could not be normalized because their email collides with another user: {}",
+                                collidingIds.size(), collidingIds);
+                    }
+                });
+    }
+
+    /**
+     * @return The IDs of the users left without a normalized email by the last run because of a collision.
+     */
+    public Set<Long> collidingIds() {
+        return Set.copyOf(collidingIds);
+    }
+
+    /**
+     * Exposes the number of colliding users as a metric, so they can be alerted on.
+     *
+     * @param registry The registry to bind the meters to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("crediya.persistence.email-backfill.collisions", collidingIds, Set::size)
+                .description("Users whose normalized email collides with another user and need manual review")
+                .register(registry);
+    }
+
+    /**
+     * Migrates before the web server starts. A failure aborts the startup, so an instance never serves email lookups
+     * that could miss a row.
+     */
+    @Override
+    public void start() {
+        Long updated = migrate().block(timeout);
+        log.info("Email normalization backfill finished, {} rows updated.", updated);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Adds the NOT NULL constraint unless it is already there, so restarts do not revalidate the whole table.
+     */
+    private Mono<Void> requireNormalizedEmail() {
+        return databaseClient.sql(SELECT_NULLABLE)
+                .map(row -> row.get(0, String.class))
+                .one()
+                .filter("YES"::equalsIgnoreCase)
+                .flatMap(nullable -> databaseClient.sql(REQUIRE_NORMALIZED).then()
+                        .doOnSuccess(done -> log.info("'usuario.email_normalizado' is now NOT NULL.")));
+    }
+
+    private Mono<List<PendingRow>> fetchBatch(long lastId) {
+        return databaseClient.sql(SELECT_PENDING)
+                .bind("lastId", lastId)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> new PendingRow(row.get("id_usuario", Long.class), row.get("email", String.class)))
+                .all()
+                .collectList();
+    }
+
+    private Mono<Long> normalizeBatch(List<PendingRow> batch) {
+        return Flux.fromIterable(batch)
+                .concatMap(row -> databaseClient.sql(UPDATE_NORMALIZED)
+                        .bind("normalizedEmail", User.normalizeEmail(row.email()))
+                        .bind("id", row.id())
+                        .fetch()
+                        .rowsUpdated()
+                        .onErrorResume(DataIntegrityViolationException.class, ex -> {
+                            log.error("Skipping user {}: its normalized email collides with another user.", row.id());
+                            collidingIds.add(row.id());
+                            return Mono.just(0L);
+                        }))
+                .reduce(0L, Long::sum)
+                .doOnNext(updated -> log.debug("Normalized {} emails in a batch of {} rows.", updated, batch.size()));
+    }
+
+    private record PendingRow(Long id, String email) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.crediya.auth.infrastructure.driven.persistence.repository;
+
+import com.crediya.auth.infrastructure.driven.persistence.entity.RoleData;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data R2DBC repository interface for the RoleData entity.
+ */
+@Repository
+public interface RoleDataRepository extends R2dbcRepository<RoleData, String> {
+}
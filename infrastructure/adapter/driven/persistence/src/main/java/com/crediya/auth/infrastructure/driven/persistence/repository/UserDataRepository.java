@@ -1,8 +1,10 @@
 package com.crediya.auth.infrastructure.driven.persistence.repository;
 
 import com.crediya.auth.infrastructure.driven.persistence.entity.UserData;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -12,10 +14,44 @@ import reactor.core.publisher.Mono;
 public interface UserDataRepository extends R2dbcRepository<UserData, Long> {
 
     /**
-     * A custom query method to check for the existence of a user by their email.
+     * A custom query method to check for the existence of a user by their normalized email.
+     * The lookup is served by the unique index on 'email_normalizado'.
      *
-     * @param email The email to check for.
+     * @param normalizedEmail The normalized email to check for.
      * @return A Mono<Boolean> emitting true if the email exists, false otherwise.
      */
-    Mono<Boolean> existsByEmail(String email);
+    Mono<Boolean> existsByNormalizedEmail(String normalizedEmail);
+
+    /**
+     * Streams the users with an ID greater than the given one, ordered by ID.
+     *
+     * @param id The exclusive lower bound of the IDs to return.
+     * @return A Flux<UserData> emitting the matching users in ascending ID order.
+     */
+    Flux<UserData> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * Counts the users with an ID less than or equal to the given one.
+     *
+     * @param id The inclusive upper bound of the IDs to count.
+     * @return A Mono<Long> emitting the number of matching users.
+     */
+    Mono<Long> countByIdLessThanEqual(Long id);
+
+    /**
+     * A custom query method to add up the versions of the users with an ID less than or equal to the given one.
+     *
+     * @param id The inclusive upper bound of the IDs to include.
+     * @return A Mono<Long> emitting the sum of their versions, or 0 if there are none.
+     */
+    @Query("SELECT CAST(COALESCE(SUM(version), 0) AS BIGINT) FROM usuario WHERE id_usuario <= :id")
+    Mono<Long> sumVersionsByIdLessThanEqual(Long id);
+
+    /**
+     * A custom query method to find the highest user ID, served by the primary key.
+     *
+     * @return A Mono<Long> emitting the highest ID, or 0 if the table is empty.
+     */
+    @Query("SELECT COALESCE(MAX(id_usuario), 0) FROM usuario")
+    Mono<Long> findMaxId();
 }
@@ -0,0 +1,72 @@
+package com.crediya.auth.infrastructure.driven.persistence.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups for the same key into a single in-flight query.
+ * <p>
+ * The first caller for a key starts the query; every caller that arrives while it is still running subscribes to
+ * the same result instead of issuing its own. The entry is removed as soon as the query completes, fails or is
+ * cancelled by its last subscriber, so results are never cached beyond the lifetime of the query itself.
+ *
+ * @param <K> The type of the lookup key.
+ * @param <V> The type of the lookup result.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    /**
+     * Executes the loader for the given key, or joins the execution already in flight for it.
+     *
+     * @param key    The lookup key.
+     * @param loader The function that performs the actual lookup.
+     * @return A reactive stream emitting the shared result of the lookup.
+     */
+    public Mono<V> execute(K key, Function<? super K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            boolean[] leader = {false};
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return share(k, loader);
+            });
+            if (!leader[0]) {
+                coalescedCalls.increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * @return The number of calls that joined an in-flight query instead of issuing their own.
+     */
+    public long coalescedCount() {
+        return coalescedCalls.sum();
+    }
+
+    /**
+     * @return The number of keys that currently have a query in flight.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Function<? super K, Mono<V>> loader) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> shared = Mono.defer(() -> loader.apply(key))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .flux()
+                .publish()
+                .refCount()
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+}
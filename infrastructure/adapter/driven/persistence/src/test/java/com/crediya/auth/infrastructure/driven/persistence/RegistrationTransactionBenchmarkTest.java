@@ -0,0 +1,179 @@
+package com.crediya.auth.infrastructure.driven.persistence;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.TransactionalBoundary;
+import com.crediya.auth.infrastructure.driven.persistence.mapper.UserMapper;
+import com.crediya.auth.infrastructure.driven.persistence.mapper.UserMapperImpl;
+import com.crediya.auth.infrastructure.driven.persistence.repository.UserDataRepository;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of the registration writes with the transaction spanning the email check and the insert, as a
+ * {@code @Transactional} reactive method does, against a transaction around the insert only.
+ * <p>
+ * Run with {@code ./gradlew :infrastructure:adapter:driven:persistence:test -Dbenchmark=true}. For each variant it
+ * logs the latency per registration and how long connections were held, in total and inside a transaction; the
+ * assertion message repeats both results.
+ */
+@DataR2dbcTest
+@Import(UserMapperImpl.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RegistrationTransactionBenchmarkTest {
+
+    private static final int WARM_UP_REQUESTS = 1_000;
+    private static final int MEASURED_REQUESTS = 5_000;
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationTransactionBenchmarkTest.class);
+
+    @SpringBootApplication
+    @EnableR2dbcRepositories
+    static class TestConfiguration {
+    }
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private UserDataRepository userDataRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Test
+    void writeOnlyTransactionShouldHoldTransactionalConnectionsForLessTime() {
+
+        Result wholePipeline = run("whole-pipeline", (adapter, operator, boundary, user) ->
+                operator.transactional(adapter.existsByEmail(user.getEmail()).flatMap(exists -> adapter.save(user))));
+        Result writeOnly = run("write-only", (adapter, operator, boundary, user) ->
+                adapter.existsByEmail(user.getEmail()).flatMap(exists -> boundary.inTransaction(adapter.save(user))));
+
+        assertTrue(writeOnly.transactionHeldNanos() < wholePipeline.transactionHeldNanos(),
+                () -> "write-only: " + writeOnly + "; whole-pipeline: " + wholePipeline);
+    }
+
+    private Result run(String name, Registration registration) {
+        userDataRepository.deleteAll().block();
+
+        TrackingConnectionFactory tracking = new TrackingConnectionFactory(connectionFactory);
+        TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(tracking));
+        UserRepositoryAdapter adapter = new UserRepositoryAdapter(
+                new R2dbcRepositoryFactory(new R2dbcEntityTemplate(tracking)).getRepository(UserDataRepository.class),
+                userMapper,
+                DatabaseClient.create(tracking),
+                operator);
+        TransactionalBoundaryAdapter boundary = new TransactionalBoundaryAdapter(operator);
+
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            registration.register(adapter, operator, boundary, user("warm" + i)).block();
+        }
+        tracking.reset();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            registration.register(adapter, operator, boundary, user("bench" + i)).block();
+        }
+        Result result = new Result(
+                (System.nanoTime() - start) / MEASURED_REQUESTS,
+                tracking.heldNanos.sum() / MEASURED_REQUESTS,
+                tracking.transactionHeldNanos.sum() / MEASURED_REQUESTS);
+        log.info("Registration {}: {}", name, result);
+        return result;
+    }
+
+    private static User user(String key) {
+        return User.newUser("Larry", "Ramirez", key + "@outlook.com", key, "3001234567",
+                LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT", new BigDecimal("5000000"));
+    }
+
+    @FunctionalInterface
+    private interface Registration {
+        Mono<User> register(UserRepositoryAdapter adapter, TransactionalOperator operator, TransactionalBoundary boundary, User user);
+    }
+
+    private record Result(long latencyNanos, long heldNanos, long transactionHeldNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%.1f µs/request, connections held %.1f µs/request, %.1f µs/request of them in a transaction",
+                    latencyNanos / 1_000.0, heldNanos / 1_000.0, transactionHeldNanos / 1_000.0);
+        }
+    }
+
+    /**
+     * Measures how long each connection is held, from its acquisition to its release, and whether it ran a
+     * transaction.
+     */
+    private static final class TrackingConnectionFactory implements ConnectionFactory {
+
+        private final ConnectionFactory delegate;
+        private final LongAdder heldNanos = new LongAdder();
+        private final LongAdder transactionHeldNanos = new LongAdder();
+
+        private TrackingConnectionFactory(ConnectionFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.from(delegate.create()).map(this::tracked);
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        void reset() {
+            heldNanos.reset();
+            transactionHeldNanos.reset();
+        }
+
+        private Connection tracked(Connection connection) {
+            long acquired = System.nanoTime();
+            boolean[] transactional = {false};
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("beginTransaction")) {
+                            transactional[0] = true;
+                        } else if (method.getName().equals("close")) {
+                            long held = System.nanoTime() - acquired;
+                            heldNanos.add(held);
+                            if (transactional[0]) {
+                                transactionHeldNanos.add(held);
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        }
+                    });
+        }
+    }
+}
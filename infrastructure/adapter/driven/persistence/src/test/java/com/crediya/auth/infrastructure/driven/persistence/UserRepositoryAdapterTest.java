@@ -1,10 +1,12 @@
 package com.crediya.auth.infrastructure.driven.persistence;
 
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserPatch;
 import com.crediya.auth.infrastructure.driven.persistence.entity.UserData;
 import com.crediya.auth.infrastructure.driven.persistence.mapper.UserMapper;
 import com.crediya.auth.infrastructure.driven.persistence.mapper.UserMapperImpl;
 import com.crediya.auth.infrastructure.driven.persistence.repository.UserDataRepository;
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +14,15 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Integration tests for the UserRepositoryAdapter.
@@ -37,13 +43,24 @@ public class UserRepositoryAdapterTest {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
     private UserRepositoryAdapter userRepositoryAdapter;
 
 
     @BeforeEach
     void setUp() {
         userDataRepository.deleteAll().block();
-        userRepositoryAdapter = new UserRepositoryAdapter(userDataRepository, userMapper);
+        userRepositoryAdapter = new UserRepositoryAdapter(
+                userDataRepository,
+                userMapper,
+                databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory))
+        );
     }
 
     @Test
@@ -79,6 +96,7 @@ public class UserRepositoryAdapterTest {
                 .firstName("Larry")
                 .lastName("Ramirez")
                 .email("larry.ramirez11@outlook.com")
+                .normalizedEmail("larry.ramirez11@outlook.com")
                 .baseSalary(new BigDecimal("5000000"))
                 .identityNumber("123456789")
                 .phoneNumber("3001234567")
@@ -96,6 +114,29 @@ public class UserRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    void existsByEmailShouldIgnoreCaseAndSurroundingWhitespace() {
+
+        User userToSave = User.newUser(
+                "Larry",
+                "Ramirez",
+                "Larry.Ramirez11@Outlook.com",
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "456 Oak Ave",
+                "APPLICANT",
+                new BigDecimal("5000000")
+        );
+
+        Mono<Boolean> existsMono = userRepositoryAdapter.save(userToSave)
+                .then(userRepositoryAdapter.existsByEmail(" larry.ramirez11@OUTLOOK.com "));
+
+        StepVerifier.create(existsMono)
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @Test
     void existsByEmailShouldReturnFalseWhenEmailDoesNotExist() {
 
@@ -105,4 +146,141 @@ public class UserRepositoryAdapterTest {
                 .expectNext(false)
                 .verifyComplete();
     }
+
+    @Test
+    void saveAllShouldInsertEveryUserOfTheBatch() {
+
+        List<User> users = List.of(
+                User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                        LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT", new BigDecimal("5000000")),
+                User.newUser("Ana", "Lopez", "ana.lopez@outlook.com", "987654321", null,
+                        LocalDate.of(1992, 3, 2), "789 Pine St", "ADVISOR", new BigDecimal("7000000"))
+        );
+
+        StepVerifier.create(userRepositoryAdapter.saveAll(users))
+                .expectNext(2L)
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.existsByEmail("ana.lopez@outlook.com"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllShouldInsertNothingWhenOneUserOfTheBatchIsRejected() {
+
+        List<User> users = List.of(
+                User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                        LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT", new BigDecimal("5000000")),
+                User.newUser("Larry", "Ramirez", "LARRY.RAMIREZ11@outlook.com", "555555555", "3001234567",
+                        LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT", new BigDecimal("5000000"))
+        );
+
+        StepVerifier.create(userRepositoryAdapter.saveAll(users))
+                .expectError()
+                .verify();
+
+        StepVerifier.create(userDataRepository.count())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateIfVersionMatchesShouldWriteOnlySuppliedFieldsAndIncrementVersion() {
+
+        User saved = userRepositoryAdapter.save(User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com",
+                "123456789", "3001234567", LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT",
+                new BigDecimal("5000000"))).block();
+
+        StepVerifier.create(userRepositoryAdapter.updateIfVersionMatches(saved.getId(), 0L,
+                        new UserPatch(null, "789 Pine St", null)))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(userDataRepository.findById(saved.getId()))
+                .expectNextMatches(userData ->
+                        userData.getVersion() == 1L &&
+                                userData.getAddress().equals("789 Pine St") &&
+                                userData.getPhoneNumber().equals("3001234567") &&
+                                userData.getBaseSalary().compareTo(new BigDecimal("5000000")) == 0
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    void updateIfVersionMatchesShouldNotWriteWhenVersionIsStale() {
+
+        User saved = userRepositoryAdapter.save(User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com",
+                "123456789", "3001234567", LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT",
+                new BigDecimal("5000000"))).block();
+
+        Mono<Boolean> updates = userRepositoryAdapter.updateIfVersionMatches(saved.getId(), 0L, new UserPatch("3000000001", null, null))
+                .then(userRepositoryAdapter.updateIfVersionMatches(saved.getId(), 0L, new UserPatch("3000000002", null, null)));
+
+        StepVerifier.create(updates)
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(userDataRepository.findById(saved.getId()))
+                .expectNextMatches(userData -> userData.getVersion() == 1L && userData.getPhoneNumber().equals("3000000001"))
+                .verifyComplete();
+    }
+
+    @Test
+    void countSumAndMaxIdShouldDescribeTheStoredUsers() {
+
+        StepVerifier.create(userRepositoryAdapter.findMaxId())
+                .expectNext(0L)
+                .verifyComplete();
+
+        User first = userRepositoryAdapter.save(User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com",
+                "123456789", "3001234567", LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT",
+                new BigDecimal("5000000"))).block();
+        User second = userRepositoryAdapter.save(User.newUser("Ana", "Lopez", "ana.lopez@outlook.com",
+                "987654321", null, LocalDate.of(1992, 3, 2), "789 Pine St", "ADVISOR",
+                new BigDecimal("7000000"))).block();
+
+        StepVerifier.create(userRepositoryAdapter.findMaxId())
+                .expectNext(second.getId())
+                .verifyComplete();
+        StepVerifier.create(userRepositoryAdapter.countByIdLessThanOrEqual(first.getId()))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(userRepositoryAdapter.countByIdLessThanOrEqual(second.getId()))
+                .expectNext(2L)
+                .verifyComplete();
+
+        userRepositoryAdapter.updateIfVersionMatches(first.getId(), 0L, new UserPatch(null, "1 New St", null)).block();
+
+        StepVerifier.create(userRepositoryAdapter.sumVersionsByIdLessThanOrEqual(first.getId()))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(userRepositoryAdapter.sumVersionsByIdLessThanOrEqual(second.getId()))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findExistingShouldReturnOnlyStoredEmailsAndIdentityNumbers() {
+
+        userRepositoryAdapter.saveAll(List.of(
+                User.newUser("Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                        LocalDate.of(1995, 11, 11), "456 Oak Ave", "APPLICANT", new BigDecimal("5000000")),
+                User.newUser("Ana", "Lopez", "ana.lopez@outlook.com", "987654321", null,
+                        LocalDate.of(1992, 3, 2), "789 Pine St", "ADVISOR", new BigDecimal("7000000"))
+        )).block();
+
+        StepVerifier.create(userRepositoryAdapter.findExistingNormalizedEmails(
+                        List.of("ana.lopez@outlook.com", "nobody@outlook.com")))
+                .expectNext("ana.lopez@outlook.com")
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findExistingIdentityNumbers(
+                        List.of("123456789", "987654321", "000000000")).collectList())
+                .expectNextMatches(found -> found.size() == 2 && found.containsAll(List.of("123456789", "987654321")))
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findExistingIdentityNumbers(List.of()))
+                .verifyComplete();
+    }
 }
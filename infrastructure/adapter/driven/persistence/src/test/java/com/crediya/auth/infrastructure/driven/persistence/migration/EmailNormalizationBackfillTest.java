@@ -0,0 +1,133 @@
+package com.crediya.auth.infrastructure.driven.persistence.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the EmailNormalizationBackfill.
+ * A batch size of 2 forces the backfill to walk several keyset pages. The backfill already migrated the empty table
+ * when the context started, so each test makes the column nullable again to insert legacy rows.
+ */
+@DataR2dbcTest
+@Import(EmailNormalizationBackfill.class)
+@TestPropertySource(properties = "crediya.persistence.email-backfill.batch-size=2")
+class EmailNormalizationBackfillTest {
+
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private EmailNormalizationBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM usuario").then().block();
+        databaseClient.sql("ALTER TABLE usuario ALTER COLUMN email_normalizado DROP NOT NULL").then().block();
+    }
+
+    @Test
+    void shouldNormalizeEveryLegacyRow() {
+
+        Flux.just("Larry@Outlook.com", " ana@MAIL.com", "JUAN@mail.com", "pedro@mail.com", "Sofia@Mail.com")
+                .index()
+                .concatMap(tuple -> insertLegacyUser(tuple.getT2(), "DOC" + tuple.getT1()))
+                .blockLast();
+
+        StepVerifier.create(backfill.run())
+                .expectNext(5L)
+                .verifyComplete();
+
+        StepVerifier.create(databaseClient.sql("SELECT email_normalizado FROM usuario ORDER BY id_usuario")
+                        .map(row -> row.get("email_normalizado", String.class))
+                        .all())
+                .expectNext("larry@outlook.com", "ana@mail.com", "juan@mail.com", "pedro@mail.com", "sofia@mail.com")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSkipAndReportRowsWhoseNormalizedEmailCollides() {
+
+        insertLegacyUser("Larry@Outlook.com", "DOC1")
+                .then(insertLegacyUser("larry@outlook.com", "DOC2"))
+                .block();
+
+        StepVerifier.create(backfill.run())
+                .expectNext(1L)
+                .verifyComplete();
+
+        Long skippedId = databaseClient.sql("SELECT id_usuario FROM usuario WHERE email_normalizado IS NULL")
+                .map(row -> row.get("id_usuario", Long.class))
+                .one()
+                .block();
+        assertEquals(Set.of(skippedId), backfill.collidingIds());
+    }
+
+    @Test
+    void migrateShouldRequireTheNormalizedEmailOnceEveryRowIsNormalized() {
+
+        insertLegacyUser("Larry@Outlook.com", "DOC1")
+                .then(insertLegacyUser("ana@mail.com", "DOC2"))
+                .block();
+
+        StepVerifier.create(backfill.migrate())
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertEquals("NO", emailNormalizedNullable());
+        StepVerifier.create(insertLegacyUser("pedro@mail.com", "DOC3"))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    @Test
+    void migrateShouldKeepTheColumnNullableWhileCollisionsAreLeft() {
+
+        insertLegacyUser("Larry@Outlook.com", "DOC1")
+                .then(insertLegacyUser("larry@outlook.com", "DOC2"))
+                .block();
+
+        StepVerifier.create(backfill.migrate())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertEquals("YES", emailNormalizedNullable());
+        assertEquals(1, backfill.collidingIds().size());
+    }
+
+    private String emailNormalizedNullable() {
+        return databaseClient.sql("""
+                        SELECT is_nullable FROM information_schema.columns
+                        WHERE LOWER(table_name) = 'usuario' AND LOWER(column_name) = 'email_normalizado'""")
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+    }
+
+    private Mono<Long> insertLegacyUser(String email, String identityNumber) {
+        return databaseClient.sql("""
+                        INSERT INTO usuario (nombre, apellido, email, documento_identidad, telefono, fecha_nacimiento, direccion, id_rol, salario_base)
+                        VALUES ('Larry', 'Ramirez', :email, :identityNumber, '3001234567', DATE '1995-11-11', '456 Oak Ave', 'APPLICANT', 5000000)""")
+                .bind("email", email)
+                .bind("identityNumber", identityNumber)
+                .fetch()
+                .rowsUpdated();
+    }
+}
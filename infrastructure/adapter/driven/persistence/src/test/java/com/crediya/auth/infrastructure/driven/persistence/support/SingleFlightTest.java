@@ -0,0 +1,91 @@
+package com.crediya.auth.infrastructure.driven.persistence.support;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the SingleFlight query coalescer.
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, Boolean> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldShareOneQueryAmongConcurrentCallers() {
+
+        AtomicInteger queries = new AtomicInteger();
+        Sinks.One<Boolean> result = Sinks.one();
+
+        Mono<Boolean> first = singleFlight.execute("larry@outlook.com", key -> {
+            queries.incrementAndGet();
+            return result.asMono();
+        });
+        Mono<Boolean> second = singleFlight.execute("larry@outlook.com", key -> {
+            queries.incrementAndGet();
+            return Mono.just(false);
+        });
+
+        StepVerifier firstVerifier = StepVerifier.create(first).expectNext(true).expectComplete().verifyLater();
+        StepVerifier secondVerifier = StepVerifier.create(second).expectNext(true).expectComplete().verifyLater();
+
+        assertEquals(1, singleFlight.inFlightCount());
+        result.tryEmitValue(true);
+
+        firstVerifier.verify();
+        secondVerifier.verify();
+        assertEquals(1, queries.get());
+        assertEquals(1, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void shouldIssueNewQueryOnceThePreviousOneCompleted() {
+
+        AtomicInteger queries = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.execute("larry@outlook.com", key -> Mono.fromSupplier(() -> queries.incrementAndGet() > 0)))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(singleFlight.execute("larry@outlook.com", key -> Mono.fromSupplier(() -> queries.incrementAndGet() > 0)))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(2, queries.get());
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    void shouldRemoveEntryWhenQueryFails() {
+
+        StepVerifier.create(singleFlight.execute("larry@outlook.com", key -> Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void shouldCancelQueryWhenLastSubscriberCancels() {
+
+        AtomicInteger cancellations = new AtomicInteger();
+        Mono<Boolean> never = Mono.<Boolean>never().doOnCancel(cancellations::incrementAndGet);
+
+        Disposable first = singleFlight.execute("larry@outlook.com", key -> never).subscribe();
+        Disposable second = singleFlight.execute("larry@outlook.com", key -> never).subscribe();
+
+        first.dispose();
+        assertEquals(0, cancellations.get());
+        assertEquals(1, singleFlight.inFlightCount());
+
+        second.dispose();
+        assertEquals(1, cancellations.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+}
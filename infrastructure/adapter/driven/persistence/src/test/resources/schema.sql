@@ -1,14 +1,30 @@
 DROP TABLE IF EXISTS usuario;
+DROP TABLE IF EXISTS rol;
+
+CREATE TABLE rol (
+                     id_rol VARCHAR(50) PRIMARY KEY,
+                     nombre VARCHAR(100) NOT NULL,
+                     descripcion VARCHAR(255)
+);
+
+INSERT INTO rol (id_rol, nombre, descripcion) VALUES
+    ('ADMIN', 'Administrador', 'Gestiona usuarios y configuracion de la plataforma'),
+    ('ADVISOR', 'Asesor', 'Evalua y gestiona solicitudes de credito'),
+    ('APPLICANT', 'Solicitante', 'Cliente que solicita creditos');
 
 CREATE TABLE usuario (
                          id_usuario BIGINT PRIMARY KEY AUTO_INCREMENT,
                          nombre VARCHAR(255) NOT NULL,
                          apellido VARCHAR(255) NOT NULL,
-                         email VARCHAR(255) NOT NULL UNIQUE,
+                         email VARCHAR(255) NOT NULL,
+                         email_normalizado VARCHAR(255),
                          documento_identidad VARCHAR(50) NOT NULL UNIQUE,
                          telefono VARCHAR(20),
                          fecha_nacimiento DATE NOT NULL,
                          direccion VARCHAR(255) NOT NULL,
-                         id_rol VARCHAR(50) NOT NULL,
-                         salario_base DECIMAL(12, 2) NOT NULL
-);
\ No newline at end of file
+                         id_rol VARCHAR(50) NOT NULL REFERENCES rol (id_rol),
+                         salario_base DECIMAL(12, 2) NOT NULL,
+                         version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX ux_usuario_email_normalizado ON usuario (email_normalizado);
\ No newline at end of file
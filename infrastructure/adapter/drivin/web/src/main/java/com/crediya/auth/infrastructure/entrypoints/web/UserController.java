@@ -1,10 +1,28 @@
 package com.crediya.auth.infrastructure.entrypoints.web;
 
+import com.crediya.auth.application.exceptions.DeadlineExceededException;
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.InvalidRoleException;
+import com.crediya.auth.application.exceptions.InvalidSearchException;
+import com.crediya.auth.application.exceptions.InvalidUpdateException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.exceptions.UserVersionConflictException;
+import com.crediya.auth.application.ports.in.FindDuplicatesPort;
+import com.crediya.auth.application.ports.in.GetUserStatsPort;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.SearchUsersPort;
+import com.crediya.auth.application.ports.in.UpdateUserPort;
+import com.crediya.auth.application.ports.in.StageTimings;
+import com.crediya.auth.infrastructure.entrypoints.web.deadline.DeadlineMetrics;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.DuplicateCheckRequest;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.DuplicateCheckResponse;
 import com.crediya.auth.infrastructure.entrypoints.web.dto.ErrorResponse;
 import com.crediya.auth.infrastructure.entrypoints.web.dto.UserRegistrationRequest;
 import com.crediya.auth.infrastructure.entrypoints.web.dto.UserRegistrationResponse;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserSearchResponse;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserStatsResponse;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserUpdateRequest;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserUpdateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,14 +34,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,7 +58,14 @@ import java.util.stream.Collectors;
 @Tag(name = "User Management", description = "APIs for user registration and management")
 public class UserController {
 
+    static final String STAGE_VALIDATION = "validation";
+
     private final RegisterUserPort registerUserPort;
+    private final UpdateUserPort updateUserPort;
+    private final SearchUsersPort searchUsersPort;
+    private final GetUserStatsPort getUserStatsPort;
+    private final FindDuplicatesPort findDuplicatesPort;
+    private final DeadlineMetrics deadlineMetrics;
 
     /**
      * Handles the HTTP POST request to register a new user.
@@ -49,19 +81,112 @@ public class UserController {
     )
     @ApiResponse(responseCode = "201", description = "User created successfully.",
             content = @Content(schema = @Schema(implementation = UserRegistrationResponse.class)))
-    @ApiResponse(responseCode = "400", description = "Invalid input data.",
+    @ApiResponse(responseCode = "400", description = "Invalid input data or unknown role.",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "409", description = "Email already exists.",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "504", description = "The request deadline was exceeded.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     public Mono<UserRegistrationResponse> registerUser(@Valid @RequestBody UserRegistrationRequest request) {
         log.info("Received registration request for email: {}", request.getEmail());
-        return Mono.just(request)
-                .map(UserRegistrationRequest::toCommand)
-                .flatMap(registerUserPort::registerUser)
-                .map(UserRegistrationResponse::fromDomain)
+        return Mono.deferContextual(context -> {
+                    Optional<StageTimings> timings = context.getOrEmpty(StageTimings.CONTEXT_KEY);
+                    timings.ifPresent(stageTimings -> stageTimings.record(STAGE_VALIDATION, stageTimings.elapsedNanos()));
+                    return registerUserPort.registerUser(request.toCommand())
+                            .map(UserRegistrationResponse::fromDomain)
+                            .doOnSuccess(response -> timings.ifPresent(StageTimings::markHandlerCompleted));
+                })
                 .doOnSuccess(response -> log.info("Successfully registered user with email: {}", response.getEmail()));
     }
 
+    /**
+     * Handles the HTTP PATCH request to partially update a user under optimistic locking.
+     *
+     * @param id      The ID of the user to update.
+     * @param request The request body with the expected version and the fields to change; omitted fields are kept.
+     * @return A {@link Mono} emitting a {@link UserUpdateResponse} with the new version of the user.
+     */
+    @PatchMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Partially update a user",
+            description = "Updates the phone number, address and/or base salary of a user, provided it is still at the given version."
+    )
+    @ApiResponse(responseCode = "200", description = "User updated successfully.",
+            content = @Content(schema = @Schema(implementation = UserUpdateResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid input data.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "User not found.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "The user was modified since the given version.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserUpdateResponse> updateUser(@PathVariable Long id, @Valid @RequestBody UserUpdateRequest request) {
+        log.info("Received update request for user {} at version {}", id, request.getVersion());
+        return updateUserPort.updateUser(request.toCommand(id))
+                .map(version -> UserUpdateResponse.of(id, version))
+                .doOnSuccess(response -> log.info("Successfully updated user {} to version {}", id, response.getVersion()));
+    }
+
+    /**
+     * Handles the HTTP GET request to search users by partial name or identity document.
+     *
+     * @param query The search terms; every term must be the prefix of a name word or of the identity document.
+     * @param limit The maximum number of results to return.
+     * @return A {@link Mono} emitting the matching users.
+     */
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Search users",
+            description = "Finds users by prefixes of their first name, last name or identity document, served from an in-memory index."
+    )
+    @ApiResponse(responseCode = "200", description = "Matching users, possibly none.")
+    @ApiResponse(responseCode = "400", description = "Query too short or limit out of range.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<List<UserSearchResponse>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return searchUsersPort.searchUsers(query, limit)
+                .map(results -> results.stream().map(UserSearchResponse::fromResult).toList());
+    }
+
+    /**
+     * Handles the HTTP GET request for the user distribution statistics used by the risk dashboards.
+     *
+     * @return A {@link Mono} emitting the user counts, salary percentiles and age buckets, overall and per role.
+     */
+    @GetMapping(path = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "User statistics",
+            description = "Returns user counts, salary percentiles and age buckets by role, maintained in memory without database queries."
+    )
+    @ApiResponse(responseCode = "200", description = "Current statistics.",
+            content = @Content(schema = @Schema(implementation = UserStatsResponse.class)))
+    public Mono<UserStatsResponse> getUserStats() {
+        return getUserStatsPort.getUserStats()
+                .map(UserStatsResponse::fromStats);
+    }
+
+    /**
+     * Handles the HTTP POST request to check, before a batch onboarding, which emails and identity documents are
+     * already registered. The request body is read as a stream, either newline-delimited JSON or a JSON array, and the
+     * matches are written back as newline-delimited JSON while the rest of the body is still being checked.
+     *
+     * @param candidates The emails and/or identity documents to check.
+     * @return A {@link Flux} emitting only the submitted values that are already registered.
+     */
+    @PostMapping(path = "/duplicates",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Pre-check duplicates",
+            description = "Streams back the submitted emails and identity documents that already belong to a registered user."
+    )
+    @ApiResponse(responseCode = "200", description = "The registered values, possibly none.",
+            content = @Content(schema = @Schema(implementation = DuplicateCheckResponse.class)))
+    public Flux<DuplicateCheckResponse> findDuplicates(@RequestBody Flux<DuplicateCheckRequest> candidates) {
+        return findDuplicatesPort.findDuplicates(candidates.map(DuplicateCheckRequest::toCandidate))
+                .map(DuplicateCheckResponse::fromMatch);
+    }
+
     /**
      * Exception handler that centralizes the logic for handling input validation errors for this controller.
      *
@@ -74,7 +199,7 @@ public class UserController {
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> String.format("'%s': %s", error.getField(), error.getDefaultMessage()))
                 .collect(Collectors.joining(", "));
-        log.warn("Validation failed for registration request: {}", errors);
+        log.warn("Validation failed for request: {}", errors);
         return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
     }
 
@@ -90,4 +215,83 @@ public class UserController {
         log.warn("Registration failed: {}", ex.getMessage());
         return Mono.just(new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage()));
     }
+
+    /**
+     * Handles the business exception thrown when a partial update supplies no field or an invalid value.
+     *
+     * @param ex The captured {@link InvalidUpdateException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 400 Bad Request status.
+     */
+    @ExceptionHandler(InvalidUpdateException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInvalidUpdateException(InvalidUpdateException ex) {
+        log.warn("Update failed: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the business exception thrown when a search query is too short or its limit is out of range.
+     *
+     * @param ex The captured {@link InvalidSearchException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 400 Bad Request status.
+     */
+    @ExceptionHandler(InvalidSearchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInvalidSearchException(InvalidSearchException ex) {
+        log.warn("Search rejected: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the business exception thrown when an update references a user that does not exist.
+     *
+     * @param ex The captured {@link UserNotFoundException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 404 Not Found status.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Mono<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
+        log.warn("Update failed: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the business exception thrown when an update is based on a stale version of the user.
+     *
+     * @param ex The captured {@link UserVersionConflictException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 409 Conflict status.
+     */
+    @ExceptionHandler(UserVersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Mono<ErrorResponse> handleUserVersionConflictException(UserVersionConflictException ex) {
+        log.warn("Update failed: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the business exception thrown when a user references a role that is not part of the role catalog.
+     *
+     * @param ex The captured {@link InvalidRoleException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 400 Bad Request status.
+     */
+    @ExceptionHandler(InvalidRoleException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInvalidRoleException(InvalidRoleException ex) {
+        log.warn("Registration failed: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles requests that ran out of their deadline, recording which stage exhausted the budget.
+     *
+     * @param ex The captured {@link DeadlineExceededException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 504 Gateway Timeout status.
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Mono<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        log.warn("Request failed: {}", ex.getMessage());
+        deadlineMetrics.recordExceeded(ex.getStage());
+        return Mono.just(new ErrorResponse(HttpStatus.GATEWAY_TIMEOUT.value(), ex.getMessage()));
+    }
 }
@@ -0,0 +1,115 @@
+package com.crediya.auth.infrastructure.entrypoints.web.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An AIMD (additive increase, multiplicative decrease) concurrency limiter driven by observed latency.
+ * <p>
+ * Every request that completes under the latency threshold while the limiter is at least half utilized grows the
+ * limit by {@code 1 / limit}, i.e. by roughly one per full window of successful requests. A request that is slower
+ * than the threshold, fails with a server error or is cancelled shrinks the limit by {@link #BACKOFF_RATIO}. Requests
+ * beyond the current limit are rejected immediately, which keeps queueing out of the database path when it slows down.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    static final double BACKOFF_RATIO = 0.9d;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${crediya.web.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${crediya.web.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${crediya.web.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${crediya.web.concurrency-limit.latency-threshold:250ms}") Duration latencyThreshold) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= max-limit.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @return true if the request was admitted and must later be reported through {@link #release(long, boolean)},
+     *         false if it must be rejected.
+     */
+    public boolean tryAcquire() {
+        int currentLimit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reports the outcome of an admitted request and adapts the limit.
+     *
+     * @param latencyNanos How long the request took.
+     * @param dropped      Whether the request failed with a server error or was cancelled.
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (inFlightBeforeRelease * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Exposes the current limit, the in-flight count and the rejection count as metrics.
+     *
+     * @param registry The registry to bind the meters to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("crediya.web.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the user API")
+                .register(registry);
+        Gauge.builder("crediya.web.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently being processed by the user API")
+                .register(registry);
+        FunctionCounter.builder("crediya.web.concurrency.rejected", this, AdaptiveConcurrencyLimiter::getRejected)
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(registry);
+    }
+}
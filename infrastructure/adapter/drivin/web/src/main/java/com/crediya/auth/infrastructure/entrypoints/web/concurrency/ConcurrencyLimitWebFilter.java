@@ -0,0 +1,95 @@
+package com.crediya.auth.infrastructure.entrypoints.web.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Sheds load in front of the user writes using the {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * Requests over the current limit are answered right away with 503 and a Retry-After header, without touching the
+ * controller, so the admitted requests keep their latency while the database is slow.
+ * <p>
+ * Only registrations and updates are limited and sampled. The other user routes have their own latency profile: a
+ * streamed duplicate check always outlasts the latency threshold, and counting it would shrink the limit until
+ * registrations were rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+    static final String USERS_PATH = "/api/v1/users";
+    private static final Pattern USER_PATH = Pattern.compile("/api/v1/users/\\d+");
+    private static final byte[] REJECTION_BODY =
+            "{\"status\":503,\"message\":\"The service is overloaded, please retry later.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${crediya.web.concurrency-limit.retry-after-seconds:1}")
+    private long retryAfterSeconds = 1;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!isLimited(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        if (!limiter.tryAcquire()) {
+            log.debug("Rejecting request, concurrency limit of {} reached.", limiter.getLimit());
+            return reject(exchange.getResponse());
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> limiter.release(System.nanoTime() - start, isDropped(signal, exchange)));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * @return Whether the request registers a user ({@code POST /api/v1/users}) or updates one
+     *         ({@code PATCH /api/v1/users/{id}}).
+     */
+    private boolean isLimited(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        return (HttpMethod.POST.equals(request.getMethod()) && USERS_PATH.equals(path))
+                || (HttpMethod.PATCH.equals(request.getMethod()) && USER_PATH.matcher(path).matches());
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(REJECTION_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+
+    private boolean isDropped(SignalType signal, ServerWebExchange exchange) {
+        if (signal != SignalType.ON_COMPLETE) {
+            return true;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && status.is5xxServerError();
+    }
+}
@@ -0,0 +1,34 @@
+package com.crediya.auth.infrastructure.entrypoints.web.deadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts requests that ran out of their deadline, tagged with the pipeline stage that exhausted the budget.
+ * Recording is a no-op until a meter registry has been bound.
+ */
+@Component
+public class DeadlineMetrics implements MeterBinder {
+
+    static final String EXCEEDED_METRIC = "crediya.web.deadline.exceeded";
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records that the given stage exhausted a request's deadline.
+     *
+     * @param stage The pipeline stage that was running when the deadline passed.
+     */
+    public void recordExceeded(String stage) {
+        MeterRegistry current = registry;
+        if (current != null) {
+            current.counter(EXCEEDED_METRIC, "stage", stage).increment();
+        }
+    }
+}
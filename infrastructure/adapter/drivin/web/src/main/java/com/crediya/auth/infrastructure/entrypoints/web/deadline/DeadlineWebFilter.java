@@ -0,0 +1,77 @@
+package com.crediya.auth.infrastructure.entrypoints.web.deadline;
+
+import com.crediya.auth.application.ports.in.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Starts the end-to-end deadline of every user API request and carries it in the Reactor Context.
+ * <p>
+ * Clients may shorten the budget with the {@value #TIMEOUT_HEADER} header (milliseconds); the budget is always capped
+ * by the configured maximum so a client cannot hold server resources indefinitely.
+ * <p>
+ * The streamed duplicate check gets no deadline: its duration grows with the size of the submitted list, and it reads
+ * and answers in bounded chunks rather than holding resources for a single request-sized unit of work.
+ */
+@Slf4j
+@Component
+public class DeadlineWebFilter implements WebFilter, Ordered {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    static final String PROTECTED_PATH_PREFIX = "/api/v1/users";
+    static final String STREAMING_PATH = "/api/v1/users/duplicates";
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public DeadlineWebFilter(
+            @Value("${crediya.web.deadline.default-timeout:5s}") Duration defaultTimeout,
+            @Value("${crediya.web.deadline.max-timeout:10s}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (!path.startsWith(PROTECTED_PATH_PREFIX) || path.equals(STREAMING_PATH)) {
+            return chain.filter(exchange);
+        }
+        RequestDeadline deadline = RequestDeadline.after(budget(exchange.getRequest().getHeaders().getFirst(TIMEOUT_HEADER)));
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+    }
+
+    /**
+     * Runs right after the concurrency limiter, so rejected requests never start a deadline.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    Duration budget(String headerValue) {
+        if (headerValue == null) {
+            return defaultTimeout;
+        }
+        try {
+            long millis = Long.parseLong(headerValue.trim());
+            if (millis <= 0) {
+                return defaultTimeout;
+            }
+            Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, headerValue);
+            return defaultTimeout;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import com.crediya.auth.application.ports.in.DuplicateCandidate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one item of a duplicate pre-check. Either field may be omitted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCheckRequest {
+
+    private String email;
+    private String identityNumber;
+
+    /**
+     * Maps this DTO to the application layer's DuplicateCandidate.
+     *
+     * @return A DuplicateCandidate object.
+     */
+    public DuplicateCandidate toCandidate() {
+        return new DuplicateCandidate(this.email, this.identityNumber);
+    }
+}
@@ -0,0 +1,39 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import com.crediya.auth.application.ports.in.DuplicateMatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a submitted value that is already registered.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCheckResponse {
+
+    static final String EMAIL = "email";
+    static final String IDENTITY_NUMBER = "identityNumber";
+
+    /**
+     * The request field that matched: {@value #EMAIL} or {@value #IDENTITY_NUMBER}.
+     */
+    private String field;
+    private String value;
+
+    /**
+     * A static factory method to create a response from a duplicate match.
+     *
+     * @param match The registered value.
+     * @return A new DuplicateCheckResponse object.
+     */
+    public static DuplicateCheckResponse fromMatch(DuplicateMatch match) {
+        return DuplicateCheckResponse.builder()
+                .field(match.field() == DuplicateMatch.Field.EMAIL ? EMAIL : IDENTITY_NUMBER)
+                .value(match.value())
+                .build();
+    }
+}
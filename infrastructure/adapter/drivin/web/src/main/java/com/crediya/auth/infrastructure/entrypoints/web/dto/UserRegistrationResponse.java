@@ -15,6 +15,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class UserRegistrationResponse {
 
+    private Long id;
+    private Long version;
     private String email;
     private String message;
 
@@ -26,6 +28,8 @@ public class UserRegistrationResponse {
      */
     public static UserRegistrationResponse fromDomain(User user) {
         return UserRegistrationResponse.builder()
+                .id(user.getId())
+                .version(user.getVersion())
                 .email(user.getEmail())
                 .message("User registered successfully.")
                 .build();
@@ -0,0 +1,39 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import com.crediya.auth.application.ports.in.UserSearchResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a user returned by the search endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponse {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String identityNumber;
+    private String idRole;
+
+    /**
+     * A static factory method to create a response from a search result.
+     *
+     * @param result The matching user.
+     * @return A new UserSearchResponse object.
+     */
+    public static UserSearchResponse fromResult(UserSearchResult result) {
+        return UserSearchResponse.builder()
+                .id(result.id())
+                .firstName(result.firstName())
+                .lastName(result.lastName())
+                .identityNumber(result.identityNumber())
+                .idRole(result.idRole())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import com.crediya.auth.application.ports.in.UserStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for the user distribution statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsResponse {
+
+    private GroupStatsResponse all;
+    private Map<String, GroupStatsResponse> byRole;
+
+    /**
+     * Statistics of a group of users.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupStatsResponse {
+
+        private long count;
+        private BigDecimal salaryP50;
+        private BigDecimal salaryP90;
+        private BigDecimal salaryP99;
+        private Map<String, Long> ageBuckets;
+
+        static GroupStatsResponse fromGroupStats(UserStats.GroupStats stats) {
+            return GroupStatsResponse.builder()
+                    .count(stats.count())
+                    .salaryP50(stats.salary().p50())
+                    .salaryP90(stats.salary().p90())
+                    .salaryP99(stats.salary().p99())
+                    .ageBuckets(stats.ageBuckets())
+                    .build();
+        }
+    }
+
+    /**
+     * A static factory method to create a response from the application statistics.
+     *
+     * @param stats The current user statistics.
+     * @return A new UserStatsResponse object.
+     */
+    public static UserStatsResponse fromStats(UserStats stats) {
+        Map<String, GroupStatsResponse> byRole = new LinkedHashMap<>();
+        stats.byRole().forEach((role, roleStats) -> byRole.put(role, GroupStatsResponse.fromGroupStats(roleStats)));
+        return UserStatsResponse.builder()
+                .all(GroupStatsResponse.fromGroupStats(stats.all()))
+                .byRole(byRole)
+                .build();
+    }
+}
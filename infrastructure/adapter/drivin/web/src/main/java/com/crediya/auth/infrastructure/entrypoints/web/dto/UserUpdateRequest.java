@@ -0,0 +1,51 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import com.crediya.auth.application.ports.in.UpdateUserCommand;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for the partial user update request. Omitted fields are left unchanged, so the
+ * constraints only apply to the fields that are supplied.
+ */
+@Data
+@Builder
+public class UserUpdateRequest {
+
+    @NotNull(message = "Version cannot be null")
+    @PositiveOrZero(message = "Version cannot be negative")
+    private Long version;
+
+    @Pattern(regexp = ".*\\S.*", message = "Phone number cannot be blank")
+    private String phoneNumber;
+
+    @Pattern(regexp = ".*\\S.*", message = "Address cannot be blank")
+    private String address;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Salary cannot be negative")
+    @DecimalMax(value = "15000000.0", inclusive = true, message = "Salary exceeds maximum limit")
+    private BigDecimal baseSalary;
+
+    /**
+     * Maps this DTO to the application layer's UpdateUserCommand.
+     *
+     * @param id The ID of the user to update, taken from the request path.
+     * @return An UpdateUserCommand object.
+     */
+    public UpdateUserCommand toCommand(Long id) {
+        return new UpdateUserCommand(
+                id,
+                this.version,
+                this.phoneNumber,
+                this.address,
+                this.baseSalary
+        );
+    }
+}
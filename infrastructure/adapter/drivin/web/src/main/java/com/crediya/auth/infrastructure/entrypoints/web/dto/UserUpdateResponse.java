@@ -0,0 +1,35 @@
+package com.crediya.auth.infrastructure.entrypoints.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the partial user update response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdateResponse {
+
+    private Long id;
+    private Long version;
+    private String message;
+
+    /**
+     * A static factory method to create a response for an applied update.
+     *
+     * @param id      The ID of the updated user.
+     * @param version The new version of the user, to be sent with the next update.
+     * @return A new UserUpdateResponse object.
+     */
+    public static UserUpdateResponse of(Long id, Long version) {
+        return UserUpdateResponse.builder()
+                .id(id)
+                .version(version)
+                .message("User updated successfully.")
+                .build();
+    }
+}
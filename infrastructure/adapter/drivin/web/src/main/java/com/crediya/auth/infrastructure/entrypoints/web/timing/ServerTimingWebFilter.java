@@ -0,0 +1,134 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import com.crediya.auth.application.ports.in.StageTimings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects per-stage timings for user API requests.
+ * <p>
+ * When enabled, the stage durations are returned in a {@code Server-Timing} header and requests slower than the
+ * configured threshold are recorded in the {@link SlowRequestLog}. When both features are disabled the filter only
+ * performs a path check, so the timing machinery costs nothing.
+ * <p>
+ * The streamed duplicate check is left out: it has no stages, and since every large batch outlasts the threshold it
+ * would push the slow registrations out of the log.
+ */
+@Component
+public class ServerTimingWebFilter implements WebFilter, Ordered {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    static final String STAGE_SERIALIZATION = "serialization";
+    static final String STAGE_TOTAL = "total";
+    static final String PROTECTED_PATH_PREFIX = "/api/v1/users";
+    static final String STREAMING_PATH = "/api/v1/users/duplicates";
+
+    private final SlowRequestLog slowRequestLog;
+    private final boolean serverTimingEnabled;
+    private final boolean slowRequestsEnabled;
+    private final long slowThresholdNanos;
+
+    public ServerTimingWebFilter(
+            SlowRequestLog slowRequestLog,
+            @Value("${crediya.web.server-timing.enabled:false}") boolean serverTimingEnabled,
+            @Value("${crediya.web.slow-requests.enabled:true}") boolean slowRequestsEnabled,
+            @Value("${crediya.web.slow-requests.threshold:1s}") Duration slowThreshold) {
+        this.slowRequestLog = slowRequestLog;
+        this.serverTimingEnabled = serverTimingEnabled;
+        this.slowRequestsEnabled = slowRequestsEnabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!(serverTimingEnabled || slowRequestsEnabled)) {
+            return chain.filter(exchange);
+        }
+        String path = exchange.getRequest().getPath().value();
+        if (!path.startsWith(PROTECTED_PATH_PREFIX) || path.equals(STREAMING_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        StageTimings timings = new StageTimings();
+        if (serverTimingEnabled) {
+            exchange.getResponse().beforeCommit(() -> {
+                exchange.getResponse().getHeaders().set(SERVER_TIMING_HEADER, serverTimingHeader(timings));
+                return Mono.empty();
+            });
+        }
+
+        Mono<Void> filtered = chain.filter(exchange)
+                .contextWrite(context -> context.put(StageTimings.CONTEXT_KEY, timings));
+        if (!slowRequestsEnabled) {
+            return filtered;
+        }
+        return filtered.doFinally(signal -> recordIfSlow(exchange, timings));
+    }
+
+    /**
+     * Runs after the concurrency limiter and the deadline filter.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    private String serverTimingHeader(StageTimings timings) {
+        long now = timings.elapsedNanos();
+        StringBuilder header = new StringBuilder();
+        for (StageTimings.Stage stage : timings.stages()) {
+            appendMetric(header, stage.name(), stage.durationNanos());
+        }
+        long handlerCompleted = timings.handlerCompletedNanos();
+        if (handlerCompleted != 0) {
+            appendMetric(header, STAGE_SERIALIZATION, System.nanoTime() - handlerCompleted);
+        }
+        appendMetric(header, STAGE_TOTAL, now);
+        return header.toString();
+    }
+
+    private void appendMetric(StringBuilder header, String name, long durationNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", toMillis(durationNanos)));
+    }
+
+    private void recordIfSlow(ServerWebExchange exchange, StageTimings timings) {
+        long total = timings.elapsedNanos();
+        if (total < slowThresholdNanos) {
+            return;
+        }
+        Map<String, Double> stageMillis = new LinkedHashMap<>();
+        for (StageTimings.Stage stage : timings.stages()) {
+            stageMillis.put(stage.name(), toMillis(stage.durationNanos()));
+        }
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        slowRequestLog.record(new SlowRequest(
+                Instant.now(),
+                exchange.getRequest().getMethod().name(),
+                pattern != null ? pattern.toString() : "UNMATCHED",
+                status != null ? status.value() : 200,
+                toMillis(total),
+                stageMillis
+        ));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
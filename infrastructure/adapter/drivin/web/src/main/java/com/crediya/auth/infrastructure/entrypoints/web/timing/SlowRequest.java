@@ -0,0 +1,25 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A request that exceeded the slow-request threshold. It deliberately carries no PII: the route is the matched
+ * pattern (never the concrete path or query string) and no headers or body are kept.
+ *
+ * @param timestamp   When the request finished.
+ * @param method      The HTTP method.
+ * @param route       The matched route pattern, e.g. {@code /api/v1/users}.
+ * @param status      The response status code.
+ * @param totalMillis The total request duration.
+ * @param stageMillis The duration of each recorded stage, in recording order.
+ */
+public record SlowRequest(
+        Instant timestamp,
+        String method,
+        String route,
+        int status,
+        double totalMillis,
+        Map<String, Double> stageMillis
+) {
+}
@@ -0,0 +1,53 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer holding the most recent slow requests. Once full, each new entry overwrites the
+ * oldest one, so memory use is fixed by the configured capacity.
+ */
+@Component
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<SlowRequest> entries;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestLog(@Value("${crediya.web.slow-requests.capacity:128}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The slow request log capacity must be at least 1.");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Adds a slow request, overwriting the oldest entry when the buffer is full.
+     *
+     * @param request The slow request to record.
+     */
+    public void record(SlowRequest request) {
+        int slot = (int) (sequence.getAndIncrement() % entries.length());
+        entries.set(slot, request);
+    }
+
+    /**
+     * @return The recorded slow requests, most recent first.
+     */
+    public List<SlowRequest> recent() {
+        long next = sequence.get();
+        int size = (int) Math.min(next, entries.length());
+        List<SlowRequest> recent = new ArrayList<>(size);
+        for (long i = next - 1; i >= next - size; i--) {
+            SlowRequest entry = entries.get((int) (i % entries.length()));
+            if (entry != null) {
+                recent.add(entry);
+            }
+        }
+        return recent;
+    }
+}
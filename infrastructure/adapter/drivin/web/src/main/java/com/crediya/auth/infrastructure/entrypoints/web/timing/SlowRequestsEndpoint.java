@@ -0,0 +1,27 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the most recent slow requests at {@code /actuator/slowrequests}.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    /**
+     * @return The recorded slow requests, most recent first.
+     */
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return slowRequestLog.recent();
+    }
+}
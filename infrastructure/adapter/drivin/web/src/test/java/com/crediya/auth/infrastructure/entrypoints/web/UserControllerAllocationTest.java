@@ -0,0 +1,207 @@
+package com.crediya.auth.infrastructure.entrypoints.web;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.ports.in.FindDuplicatesPort;
+import com.crediya.auth.application.ports.in.GetUserStatsPort;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.SearchUsersPort;
+import com.crediya.auth.application.ports.in.UpdateUserPort;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserRegistrationRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Allocation regression tests for user registration through the full WebFlux stack.
+ * <p>
+ * Each path is driven N times through {@link WebTestClient} after a warm-up and the bytes allocated per request are
+ * compared against the budget versioned in {@code allocation-budgets.properties}. The client is bound to the
+ * application context, so there is no network or event loop: client and server run on the test thread, and only that
+ * thread is measured. A filter records every thread that handles an exchange, and the test fails if any ran
+ * elsewhere, as that allocation would be missed. The use case port is a fixed-answer stub rather than a Mockito mock,
+ * whose invocation recording would distort the measurement.
+ * <p>
+ * Budgets are recorded, not written by hand: with {@code -Dallocation.calibrate=true} every path stores its measured
+ * allocation plus {@value #HEADROOM_PERCENT}% in the budget file instead of being checked. A path without a recorded
+ * budget is skipped.
+ */
+@WebFluxTest(UserController.class)
+@TestPropertySource(properties = "logging.level.com.crediya.auth=ERROR")
+class UserControllerAllocationTest {
+
+    private static final int WARM_UP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 1_000;
+    private static final String TAKEN_EMAIL = "taken@outlook.com";
+    private static final int HEADROOM_PERCENT = 25;
+    private static final boolean CALIBRATE = Boolean.getBoolean("allocation.calibrate");
+    private static final Path BUDGETS_FILE = Path.of("src/test/resources/allocation-budgets.properties");
+    private static final Set<Long> HANDLER_THREADS = ConcurrentHashMap.newKeySet();
+
+    @SpringBootApplication
+    @ComponentScan(basePackages = "com.crediya.auth.infrastructure.entrypoints.web")
+    static class TestConfiguration {
+
+        /**
+         * Records the threads that start and finish each exchange.
+         */
+        @Bean
+        WebFilter handlerThreadRecorder() {
+            return (exchange, chain) -> {
+                HANDLER_THREADS.add(Thread.currentThread().getId());
+                return chain.filter(exchange).doFinally(signal -> HANDLER_THREADS.add(Thread.currentThread().getId()));
+            };
+        }
+
+        @Bean
+        RegisterUserPort registerUserPort() {
+            return command -> TAKEN_EMAIL.equals(command.email())
+                    ? Mono.error(new EmailAlreadyExistsException("Email " + command.email() + " is already registered."))
+                    : Mono.just(command.toDomainUser());
+        }
+
+        @Bean
+        UpdateUserPort updateUserPort() {
+            return command -> Mono.just(command.expectedVersion() + 1);
+        }
+
+        @Bean
+        SearchUsersPort searchUsersPort() {
+            return (query, limit) -> Mono.just(List.of());
+        }
+
+        @Bean
+        GetUserStatsPort getUserStatsPort() {
+            return Mono::empty;
+        }
+
+        @Bean
+        FindDuplicatesPort findDuplicatesPort() {
+            return candidates -> Flux.empty();
+        }
+    }
+
+    private static Properties budgets;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream input = UserControllerAllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(input);
+        }
+    }
+
+    @Test
+    void successPathShouldStayWithinAllocationBudget() throws IOException {
+        UserRegistrationRequest request = validRequest("larry.ramirez11@outlook.com");
+        assertWithinBudget("register-user.web.success", () -> register(request, HttpStatus.CREATED));
+    }
+
+    @Test
+    void badRequestPathShouldStayWithinAllocationBudget() throws IOException {
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("")
+                .lastName("User")
+                .email("not-an-email")
+                .address("")
+                .baseSalary(new BigDecimal("-100"))
+                .build();
+        assertWithinBudget("register-user.web.bad-request", () -> register(request, HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void conflictPathShouldStayWithinAllocationBudget() throws IOException {
+        UserRegistrationRequest request = validRequest(TAKEN_EMAIL);
+        assertWithinBudget("register-user.web.conflict", () -> register(request, HttpStatus.CONFLICT));
+    }
+
+    private void register(UserRegistrationRequest request, HttpStatus expectedStatus) {
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(expectedStatus)
+                .expectBody();
+    }
+
+    private void assertWithinBudget(String path, Runnable request) throws IOException {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            request.run();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        HANDLER_THREADS.clear();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request.run();
+        }
+        long perRequest = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_REQUESTS;
+        assertEquals(Set.of(threadId), HANDLER_THREADS, () -> path + " handled exchanges off the measured thread");
+
+        if (CALIBRATE) {
+            recordBudget(path, perRequest + perRequest * HEADROOM_PERCENT / 100);
+            return;
+        }
+        String recorded = budgets.getProperty(path, "");
+        assumeFalse(recorded.isBlank(), () -> path + " has no recorded budget, run with -Dallocation.calibrate=true");
+        long budget = Long.parseLong(recorded);
+        assertTrue(perRequest <= budget,
+                () -> path + " allocated " + perRequest + " bytes/request, over its budget of " + budget);
+    }
+
+    /**
+     * Replaces the budget of the path in the versioned file, keeping its comments and the other paths.
+     */
+    private static void recordBudget(String path, long budget) throws IOException {
+        List<String> lines = new ArrayList<>(Files.readAllLines(BUDGETS_FILE));
+        lines.removeIf(line -> line.startsWith(path + "="));
+        lines.add(path + "=" + budget);
+        Files.write(BUDGETS_FILE, lines);
+    }
+
+    private UserRegistrationRequest validRequest(String email) {
+        return UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email(email)
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .identityNumber("123456789")
+                .phoneNumber("3001234567")
+                .idRole("APPLICANT")
+                .build();
+    }
+}
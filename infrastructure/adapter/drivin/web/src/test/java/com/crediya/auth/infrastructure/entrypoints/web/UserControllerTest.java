@@ -1,10 +1,28 @@
 package com.crediya.auth.infrastructure.entrypoints.web;
 
+import com.crediya.auth.application.exceptions.DeadlineExceededException;
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.InvalidRoleException;
+import com.crediya.auth.application.exceptions.InvalidSearchException;
+import com.crediya.auth.application.exceptions.InvalidUpdateException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.exceptions.UserVersionConflictException;
+import com.crediya.auth.application.ports.in.DuplicateCandidate;
+import com.crediya.auth.application.ports.in.DuplicateMatch;
+import com.crediya.auth.application.ports.in.FindDuplicatesPort;
+import com.crediya.auth.application.ports.in.GetUserStatsPort;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RequestDeadline;
+import com.crediya.auth.application.ports.in.SearchUsersPort;
+import com.crediya.auth.application.ports.in.UpdateUserPort;
+import com.crediya.auth.application.ports.in.UserSearchResult;
+import com.crediya.auth.application.ports.in.UserStats;
 import com.crediya.auth.domain.model.User;
 import com.crediya.auth.infrastructure.entrypoints.web.dto.UserRegistrationRequest;
 import com.crediya.auth.infrastructure.entrypoints.web.dto.UserRegistrationResponse;
+import com.crediya.auth.infrastructure.entrypoints.web.deadline.DeadlineWebFilter;
+import com.crediya.auth.infrastructure.entrypoints.web.dto.UserUpdateRequest;
+import com.crediya.auth.infrastructure.entrypoints.web.timing.SlowRequestLog;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -15,12 +33,22 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,9 +67,24 @@ class UserControllerTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
     @MockBean
     private RegisterUserPort registerUserPort;
 
+    @MockBean
+    private UpdateUserPort updateUserPort;
+
+    @MockBean
+    private SearchUsersPort searchUsersPort;
+
+    @MockBean
+    private GetUserStatsPort getUserStatsPort;
+
+    @MockBean
+    private FindDuplicatesPort findDuplicatesPort;
+
     @Test
     void shouldReturnCreatedWhenUserIsRegisteredSuccessfully() {
 
@@ -131,4 +174,289 @@ class UserControllerTest {
                 .jsonPath("$.status").isEqualTo(409)
                 .jsonPath("$.message").isEqualTo("Email " + request.getEmail() + " is already registered.");
     }
+
+    @Test
+    void shouldReturnBadRequestWhenRoleDoesNotExist() {
+
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .idRole("UNKNOWN")
+                .build();
+
+        when(registerUserPort.registerUser(any()))
+                .thenReturn(Mono.error(new InvalidRoleException("Role UNKNOWN does not exist.")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Role UNKNOWN does not exist.");
+    }
+
+    @Test
+    void shouldReturnGatewayTimeoutWhenDeadlineIsExceeded() {
+
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .idRole("APPLICANT")
+                .build();
+
+        when(registerUserPort.registerUser(any()))
+                .thenReturn(Mono.error(new DeadlineExceededException("insert")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .header("X-Request-Timeout", "100")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.GATEWAY_TIMEOUT)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(504)
+                .jsonPath("$.message").isEqualTo("Request deadline exceeded during stage 'insert'.");
+    }
+
+    @Test
+    void shouldReturnNewVersionWhenUserIsUpdated() {
+
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .version(3L)
+                .address("789 Pine St")
+                .build();
+
+        when(updateUserPort.updateUser(any())).thenReturn(Mono.just(4L));
+
+        webTestClient.patch().uri("/api/v1/users/{id}", 7)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(7)
+                .jsonPath("$.version").isEqualTo(4);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenUpdateIsInvalid() {
+
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .address(" ")
+                .baseSalary(new BigDecimal("-100"))
+                .build();
+
+        webTestClient.patch().uri("/api/v1/users/{id}", 7)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isNotEmpty();
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenUpdateHasNoFields() {
+
+        when(updateUserPort.updateUser(any()))
+                .thenReturn(Mono.error(new InvalidUpdateException("At least one field must be supplied.")));
+
+        webTestClient.patch().uri("/api/v1/users/{id}", 7)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UserUpdateRequest.builder().version(0L).build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("At least one field must be supplied.");
+    }
+
+    @Test
+    void shouldNotExposeUnexpectedIllegalArgumentExceptionsAsBadRequest() {
+
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .identityNumber("123456789")
+                .phoneNumber("3001234567")
+                .idRole("APPLICANT")
+                .build();
+
+        when(registerUserPort.registerUser(any()))
+                .thenReturn(Mono.error(new IllegalArgumentException("Internal detail")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().is5xxServerError();
+    }
+
+    @Test
+    void shouldReturnConflictWhenUpdateIsBasedOnStaleVersion() {
+
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .version(3L)
+                .phoneNumber("3009876543")
+                .build();
+
+        when(updateUserPort.updateUser(any()))
+                .thenReturn(Mono.error(new UserVersionConflictException("User 7 was modified concurrently; version 3 is no longer current.")));
+
+        webTestClient.patch().uri("/api/v1/users/{id}", 7)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409)
+                .jsonPath("$.message").isEqualTo("User 7 was modified concurrently; version 3 is no longer current.");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenUpdatedUserDoesNotExist() {
+
+        UserUpdateRequest request = UserUpdateRequest.builder()
+                .version(0L)
+                .phoneNumber("3009876543")
+                .build();
+
+        when(updateUserPort.updateUser(any()))
+                .thenReturn(Mono.error(new UserNotFoundException("User 7 does not exist.")));
+
+        webTestClient.patch().uri("/api/v1/users/{id}", 7)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void shouldReturnMatchingUsersWhenSearching() {
+
+        when(searchUsersPort.searchUsers("ramir", 10))
+                .thenReturn(Mono.just(List.of(new UserSearchResult(4L, "Larry", "Ramirez", "123456789", "APPLICANT"))));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/v1/users/search").queryParam("q", "ramir").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(4)
+                .jsonPath("$[0].lastName").isEqualTo("Ramirez")
+                .jsonPath("$[0].identityNumber").isEqualTo("123456789");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenSearchQueryIsRejected() {
+
+        when(searchUsersPort.searchUsers(anyString(), anyInt()))
+                .thenReturn(Mono.error(new InvalidSearchException("The search query must have at least 2 characters.")));
+
+        webTestClient.get().uri("/api/v1/users/search?q=r")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("The search query must have at least 2 characters.");
+    }
+
+    @Test
+    void shouldReturnUserStats() {
+
+        UserStats.GroupStats applicants = new UserStats.GroupStats(2,
+                new UserStats.SalaryPercentiles(new BigDecimal("2000000"), new BigDecimal("4000000"), new BigDecimal("4000000")),
+                Map.of("26-35", 2L));
+        when(getUserStatsPort.getUserStats()).thenReturn(Mono.just(new UserStats(applicants, Map.of("APPLICANT", applicants))));
+
+        webTestClient.get().uri("/api/v1/users/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.all.count").isEqualTo(2)
+                .jsonPath("$.byRole.APPLICANT.salaryP90").isEqualTo(4000000)
+                .jsonPath("$.byRole.APPLICANT.ageBuckets['26-35']").isEqualTo(2);
+    }
+
+    @Test
+    void shouldStreamBackOnlyRegisteredValuesWhenCheckingDuplicates() {
+
+        when(findDuplicatesPort.findDuplicates(any())).thenAnswer(invocation -> {
+            Flux<DuplicateCandidate> candidates = invocation.getArgument(0);
+            return candidates
+                    .filter(candidate -> "larry.ramirez11@outlook.com".equals(candidate.email()))
+                    .map(candidate -> new DuplicateMatch(DuplicateMatch.Field.EMAIL, candidate.email()));
+        });
+
+        String body = """
+                {"email":"larry.ramirez11@outlook.com","identityNumber":"123456789"}
+                {"email":"new.user@outlook.com"}
+                """;
+
+        webTestClient.post().uri("/api/v1/users/duplicates")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .isEqualTo("{\"field\":\"email\",\"value\":\"larry.ramirez11@outlook.com\"}\n");
+    }
+
+    @Test
+    void shouldStreamALargeDuplicateCheckToCompletionWithoutDeadlineOrSlowLogEntry() {
+
+        int candidates = 100_000;
+        AtomicBoolean deadlineSeen = new AtomicBoolean();
+        when(findDuplicatesPort.findDuplicates(any())).thenAnswer(invocation -> {
+            Flux<DuplicateCandidate> submitted = invocation.getArgument(0);
+            return Flux.deferContextual(context -> {
+                deadlineSeen.set(context.hasKey(RequestDeadline.CONTEXT_KEY));
+                return submitted
+                        .filter(candidate -> candidate.email().endsWith("000@outlook.com"))
+                        .map(candidate -> new DuplicateMatch(DuplicateMatch.Field.EMAIL, candidate.email()))
+                        .delaySubscription(Duration.ofMillis(1_100));
+            });
+        });
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < candidates; i++) {
+            body.append("{\"email\":\"user").append(i).append("@outlook.com\"}\n");
+        }
+
+        List<String> matches = webTestClient.mutate().responseTimeout(Duration.ofSeconds(60)).build()
+                .post().uri("/api/v1/users/duplicates")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .header(DeadlineWebFilter.TIMEOUT_HEADER, "1")
+                .bodyValue(body.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(60));
+
+        assertEquals(candidates / 1_000 - 1, matches.size());
+        assertFalse(deadlineSeen.get());
+        assertTrue(slowRequestLog.recent().stream().noneMatch(request -> request.route().endsWith("/duplicates")));
+    }
 }
@@ -0,0 +1,81 @@
+package com.crediya.auth.infrastructure.entrypoints.web.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void shouldRejectRequestsBeyondTheLimit() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofMillis(250));
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void shouldShrinkLimitMultiplicativelyOnSlowOrDroppedRequests() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, Duration.ofMillis(250));
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertEquals(18, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertEquals(16, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void shouldGrowLimitAdditivelyWhenBusyAndFast() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(4, 4, 5, Duration.ofMillis(250));
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire();
+            }
+            for (int i = 0; i < 4; i++) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void shouldNotGrowLimitWhenUnderutilized() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(10, 4, 100, Duration.ofMillis(250));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+}
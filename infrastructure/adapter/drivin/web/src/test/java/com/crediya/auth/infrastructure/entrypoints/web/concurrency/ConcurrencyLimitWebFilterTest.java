@@ -0,0 +1,133 @@
+package com.crediya.auth.infrastructure.entrypoints.web.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the ConcurrencyLimitWebFilter, including a small local load test that bursts more concurrent
+ * requests than the limit allows.
+ */
+class ConcurrencyLimitWebFilterTest {
+
+    @Test
+    void shouldRejectWithServiceUnavailableAndRetryAfterWhenLimitIsReached() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofMillis(250));
+        var filter = new ConcurrencyLimitWebFilter(limiter);
+        limiter.tryAcquire();
+
+        MockServerWebExchange exchange = usersExchange();
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty()))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNextMatches(body -> body.contains("\"status\":503"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotLimitPathsOutsideTheUserApi() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofMillis(250));
+        var filter = new ConcurrencyLimitWebFilter(limiter);
+        limiter.tryAcquire();
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty()))
+                .verifyComplete();
+
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldLimitUpdates() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofMillis(250));
+        var filter = new ConcurrencyLimitWebFilter(limiter);
+        limiter.tryAcquire();
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.patch("/api/v1/users/7"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty()))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void slowStreamingRequestShouldNotLowerTheLimit() {
+
+        var limiter = new AdaptiveConcurrencyLimiter(10, 1, 20, Duration.ofMillis(50));
+        var filter = new ConcurrencyLimitWebFilter(limiter);
+        WebFilterChain slowStream = exchange -> Mono.delay(Duration.ofMillis(200)).then();
+
+        MockServerWebExchange duplicates = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users/duplicates"));
+        StepVerifier.create(filter.filter(duplicates, slowStream))
+                .verifyComplete();
+
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+
+        StepVerifier.create(filter.filter(usersExchange(), slowStream))
+                .verifyComplete();
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void shouldAdmitOnlyTheLimitUnderABurstOfConcurrentRequests() {
+
+        int limit = 5;
+        int requests = 50;
+        var limiter = new AdaptiveConcurrencyLimiter(limit, limit, limit, Duration.ofSeconds(5));
+        var filter = new ConcurrencyLimitWebFilter(limiter);
+
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        WebFilterChain slowDatabase = exchange -> Mono.defer(() -> {
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(200));
+                })
+                .doFinally(signal -> concurrent.decrementAndGet())
+                .then();
+
+        List<ServerWebExchange> exchanges = Flux.range(0, requests)
+                .map(i -> (ServerWebExchange) usersExchange())
+                .flatMap(exchange -> filter.filter(exchange, slowDatabase).thenReturn(exchange), requests)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        long rejected = exchanges.stream()
+                .filter(exchange -> exchange.getResponse().getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE)
+                .count();
+
+        assertEquals(requests - limit, rejected);
+        assertTrue(maxConcurrent.get() <= limit);
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(requests - limit, limiter.getRejected());
+    }
+
+    private MockServerWebExchange usersExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users"));
+    }
+}
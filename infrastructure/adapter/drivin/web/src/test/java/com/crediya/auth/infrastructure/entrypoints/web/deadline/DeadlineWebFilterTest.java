@@ -0,0 +1,63 @@
+package com.crediya.auth.infrastructure.entrypoints.web.deadline;
+
+import com.crediya.auth.application.ports.in.RequestDeadline;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the DeadlineWebFilter.
+ */
+class DeadlineWebFilterTest {
+
+    private final DeadlineWebFilter filter = new DeadlineWebFilter(Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+    @Test
+    void shouldCarryDeadlineFromHeaderInReactorContext() {
+
+        AtomicReference<RequestDeadline> captured = new AtomicReference<>();
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/v1/users").header(DeadlineWebFilter.TIMEOUT_HEADER, "300"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.deferContextual(context -> {
+                    captured.set(context.get(RequestDeadline.CONTEXT_KEY));
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+
+        Duration remaining = captured.get().remaining();
+        assertTrue(remaining.compareTo(Duration.ofMillis(300)) <= 0);
+        assertTrue(remaining.compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void shouldNotStartADeadlineForTheStreamedDuplicateCheck() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users/duplicates"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.deferContextual(context -> {
+                    assertFalse(context.hasKey(RequestDeadline.CONTEXT_KEY));
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFallBackToDefaultAndCapAtMaximum() {
+
+        assertEquals(Duration.ofSeconds(5), filter.budget(null));
+        assertEquals(Duration.ofSeconds(5), filter.budget("soon"));
+        assertEquals(Duration.ofSeconds(5), filter.budget("-1"));
+        assertEquals(Duration.ofMillis(1500), filter.budget("1500"));
+        assertEquals(Duration.ofSeconds(10), filter.budget("600000"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import com.crediya.auth.application.ports.in.StageTimings;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ServerTimingWebFilter.
+ */
+class ServerTimingWebFilterTest {
+
+    private static final WebFilterChain TIMED_HANDLER = exchange -> Mono.deferContextual(context -> {
+        StageTimings timings = context.get(StageTimings.CONTEXT_KEY);
+        timings.record("exists-by-email", Duration.ofMillis(3).toNanos());
+        timings.record("insert", Duration.ofMillis(5).toNanos());
+        timings.markHandlerCompleted();
+        exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+        return exchange.getResponse().setComplete();
+    });
+
+    @Test
+    void shouldReturnServerTimingHeaderWithStageBreakdown() {
+
+        var slowRequestLog = new SlowRequestLog(8);
+        var filter = new ServerTimingWebFilter(slowRequestLog, true, false, Duration.ofSeconds(1));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users"));
+
+        StepVerifier.create(filter.filter(exchange, TIMED_HANDLER)).verifyComplete();
+
+        String header = exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER);
+        assertTrue(header.startsWith("exists-by-email;dur=3.000, insert;dur=5.000, serialization;dur="));
+        assertTrue(header.contains(", total;dur="));
+        assertTrue(slowRequestLog.recent().isEmpty());
+    }
+
+    @Test
+    void shouldRecordRequestsOverThresholdWithoutPii() {
+
+        var slowRequestLog = new SlowRequestLog(8);
+        var filter = new ServerTimingWebFilter(slowRequestLog, false, true, Duration.ZERO);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/v1/users?email=larry.ramirez11@outlook.com"));
+
+        StepVerifier.create(filter.filter(exchange, TIMED_HANDLER)).verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+        SlowRequest slowRequest = slowRequestLog.recent().get(0);
+        assertEquals("POST", slowRequest.method());
+        assertEquals("UNMATCHED", slowRequest.route());
+        assertEquals(201, slowRequest.status());
+        assertEquals(3.0, slowRequest.stageMillis().get("exists-by-email"));
+        assertEquals(5.0, slowRequest.stageMillis().get("insert"));
+    }
+
+    @Test
+    void shouldNotRecordTheStreamedDuplicateCheck() {
+
+        var slowRequestLog = new SlowRequestLog(8);
+        var filter = new ServerTimingWebFilter(slowRequestLog, true, true, Duration.ZERO);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users/duplicates"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.delay(Duration.ofMillis(20)).then())).verifyComplete();
+
+        assertTrue(slowRequestLog.recent().isEmpty());
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void shouldNotCollectTimingsWhenDisabled() {
+
+        var filter = new ServerTimingWebFilter(new SlowRequestLog(8), false, false, Duration.ZERO);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.deferContextual(context -> {
+                    assertTrue(context.getOrEmpty(StageTimings.CONTEXT_KEY).isEmpty());
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,51 @@
+package com.crediya.auth.infrastructure.entrypoints.web.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the SlowRequestLog ring buffer.
+ */
+class SlowRequestLogTest {
+
+    @Test
+    void shouldReturnEntriesMostRecentFirst() {
+
+        var log = new SlowRequestLog(4);
+        log.record(slowRequest(1));
+        log.record(slowRequest(2));
+
+        assertEquals(List.of(2.0, 1.0), totals(log));
+    }
+
+    @Test
+    void shouldOverwriteOldestEntriesWhenFull() {
+
+        var log = new SlowRequestLog(3);
+        for (int i = 1; i <= 5; i++) {
+            log.record(slowRequest(i));
+        }
+
+        assertEquals(List.of(5.0, 4.0, 3.0), totals(log));
+    }
+
+    @Test
+    void shouldStartEmpty() {
+
+        assertTrue(new SlowRequestLog(3).recent().isEmpty());
+    }
+
+    private List<Double> totals(SlowRequestLog log) {
+        return log.recent().stream().map(SlowRequest::totalMillis).toList();
+    }
+
+    private SlowRequest slowRequest(double totalMillis) {
+        return new SlowRequest(Instant.now(), "POST", "/api/v1/users", 201, totalMillis, Map.of());
+    }
+}